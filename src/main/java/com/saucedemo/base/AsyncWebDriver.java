@@ -0,0 +1,199 @@
+package com.saucedemo.base;
+
+import com.saucedemo.utils.Animations;
+import com.saucedemo.utils.BrowserContextManager;
+import com.saucedemo.utils.DomWaits;
+import com.saucedemo.utils.ImplicitWaitProfiler;
+import com.saucedemo.utils.PerformanceMetrics;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Non-blocking WebDriver commands for an existing session, next to the blocking API in BasePage.
+ *
+ * Commands go straight to the session's W3C endpoint through one shared asynchronous
+ * HttpClient and return CompletableFutures, so a handful of threads can drive many
+ * sessions, and independent commands in one test can be issued before earlier ones
+ * have answered (the driver still executes them in arrival order).
+ *
+ *   AsyncWebDriver async = AsyncWebDriver.of(driver);
+ *   CompletableFuture<String> title = async.text(By.className("title"));
+ *   CompletableFuture<String> badge = async.text(By.className("shopping_cart_badge"));
+ *   title.thenCombine(badge, ...).join();
+ *
+ * Configuration (system properties):
+ *   async.threads - threads completing responses for all sessions (default: 4)
+ */
+public class AsyncWebDriver {
+
+    private static final String ELEMENT_KEY = "element-6066-11e4-a6e6-4a4d3dae5d3b";
+    private static final Json JSON = new Json();
+
+    private static final ExecutorService executor = Executors.newFixedThreadPool(
+            Integer.getInteger("async.threads", 4), runnable -> {
+                Thread thread = new Thread(runnable, "async-webdriver");
+                thread.setDaemon(true);
+                return thread;
+            });
+    private static final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(executor)
+            .build();
+
+    private final String sessionUrl;
+
+    private AsyncWebDriver(String sessionUrl) {
+        this.sessionUrl = sessionUrl;
+    }
+
+    // Async view of a session opened by DriverManager
+    public static AsyncWebDriver of(WebDriver driver) {
+        if (BrowserContextManager.owns(Animations.unwrap(ImplicitWaitProfiler.unwrap(driver)))) {
+            // Context views share one session and need their window switched in before every command
+            throw new IllegalStateException("Async commands are not available in browser context mode");
+        }
+        WebDriver unwrapped = driver;
+        while (unwrapped instanceof WrapsDriver) {
+            unwrapped = ((WrapsDriver) unwrapped).getWrappedDriver();
+        }
+        if (!(unwrapped instanceof RemoteWebDriver)) {
+            throw new IllegalStateException("Async commands need a RemoteWebDriver session");
+        }
+
+        RemoteWebDriver remote = (RemoteWebDriver) unwrapped;
+        CommandExecutor commandExecutor = remote.getCommandExecutor();
+        if (!(commandExecutor instanceof HttpCommandExecutor)) {
+            throw new IllegalStateException("Async commands need an HTTP command executor");
+        }
+        String base = ((HttpCommandExecutor) commandExecutor).getAddressOfRemoteServer().toString().replaceAll("/$", "");
+        return new AsyncWebDriver(base + "/session/" + remote.getSessionId());
+    }
+
+    // ========== NAVIGATION ==========
+
+    public CompletableFuture<Void> get(String url) {
+        return post("/url", Map.of("url", url)).thenApply(value -> null);
+    }
+
+    public CompletableFuture<String> getCurrentUrl() {
+        return send("GET", "/url", null).thenApply(String::valueOf);
+    }
+
+    public CompletableFuture<Object> executeScript(String script, Object... args) {
+        return post("/execute/sync", Map.of("script", script, "args", Arrays.asList(args)));
+    }
+
+    // ========== ELEMENTS (by W3C element id) ==========
+
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<String> findElement(By locator) {
+        return post("/element", DomWaits.w3cLocator(locator))
+                .thenApply(value -> (String) ((Map<String, Object>) value).get(ELEMENT_KEY));
+    }
+
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<List<String>> findElements(By locator) {
+        return post("/elements", DomWaits.w3cLocator(locator)).thenApply(value -> {
+            List<Map<String, Object>> elements = (List<Map<String, Object>>) value;
+            return elements.stream().map(element -> (String) element.get(ELEMENT_KEY))
+                    .collect(Collectors.toList());
+        });
+    }
+
+    public CompletableFuture<Void> click(String elementId) {
+        return post("/element/" + elementId + "/click", Map.of()).thenApply(value -> null);
+    }
+
+    public CompletableFuture<Void> clear(String elementId) {
+        return post("/element/" + elementId + "/clear", Map.of()).thenApply(value -> null);
+    }
+
+    public CompletableFuture<Void> sendKeys(String elementId, String text) {
+        return post("/element/" + elementId + "/value", Map.of("text", text)).thenApply(value -> null);
+    }
+
+    public CompletableFuture<String> getText(String elementId) {
+        return send("GET", "/element/" + elementId + "/text", null).thenApply(String::valueOf);
+    }
+
+    // ========== CONVENIENCE (locate, then act) ==========
+
+    public CompletableFuture<Void> click(By locator) {
+        return findElement(locator).thenCompose(this::click);
+    }
+
+    public CompletableFuture<Void> type(By locator, String text) {
+        return findElement(locator).thenCompose(id -> clear(id).thenCompose(ignored -> sendKeys(id, text)));
+    }
+
+    public CompletableFuture<String> text(By locator) {
+        return findElement(locator).thenCompose(this::getText);
+    }
+
+    // ========== TRANSPORT ==========
+
+    private CompletableFuture<Object> post(String command, Map<String, Object> payload) {
+        return send("POST", command, JSON.toJson(payload));
+    }
+
+    private CompletableFuture<Object> send(String method, String command, String body) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(sessionUrl + command))
+                .header("Content-Type", "application/json; charset=utf-8")
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        long start = System.currentTimeMillis();
+        PerformanceMetrics.increment("async.commands");
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).thenApply(response -> {
+            PerformanceMetrics.recordTime("async.command.roundtrip", System.currentTimeMillis() - start);
+            return decode(command, response);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object decode(String command, HttpResponse<String> response) {
+        Map<String, Object> payload = JSON.toType(response.body(), Json.MAP_TYPE);
+        Object value = payload.get("value");
+        if (response.statusCode() < 400) {
+            return value;
+        }
+
+        Map<String, Object> error = value instanceof Map ? (Map<String, Object>) value : Map.of();
+        String message = command + ": " + error.getOrDefault("message", "HTTP " + response.statusCode());
+        switch (String.valueOf(error.get("error"))) {
+            case "no such element":
+                throw new NoSuchElementException(message);
+            case "stale element reference":
+                throw new StaleElementReferenceException(message);
+            case "javascript error":
+                throw new JavascriptException(message);
+            case "timeout":
+            case "script timeout":
+                throw new TimeoutException(message);
+            default:
+                throw new WebDriverException(message);
+        }
+    }
+}
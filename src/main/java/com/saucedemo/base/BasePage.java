@@ -1,25 +1,84 @@
 package com.saucedemo.base;
 
+import com.saucedemo.binding.ElementGroup;
+import com.saucedemo.utils.DomWaits;
+import com.saucedemo.utils.Pacing;
+import com.saucedemo.utils.PerformanceMetrics;
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidElementStateException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
 public class BasePage {
     protected WebDriver driver;
     protected WebDriverWait wait;
+    private AsyncWebDriver async;
 
-    // Configuration for visibility
+    // The page's @FindBy fields, set by the subclass from its generated binding
+    protected ElementGroup elements;
+
+    // Retries an action until the element accepts it (covers not-interactable and click-intercepted)
+    private final WebDriverWait actionWait;
+
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+
+    // Commands the wait-then-act path spends when the element is already ready
+    private static final int CLICK_COMMANDS = 3;       // isDisplayed, isEnabled, click
+    private static final int TYPE_COMMANDS = 3;        // isDisplayed, clear, sendKeys
+    private static final int READ_TEXT_COMMANDS = 2;   // isDisplayed, getText
+
+    // Counts matches (all, visible, visible and enabled) under a root (or the document) and
+    // returns the first visible match's text
+    private static final String QUERY_ELEMENTS =
+            "var root = arguments[0] || document, using = arguments[1], value = arguments[2], nodes = [];"
+            + "if (using === 'xpath') {"
+            + "  var result = document.evaluate(value, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+            + "  for (var i = 0; i < result.snapshotLength; i++) { nodes.push(result.snapshotItem(i)); }"
+            + "} else { nodes = Array.prototype.slice.call(root.querySelectorAll(value)); }"
+            + "var visible = nodes.filter(function(n) {"
+            + "  return n.getClientRects().length > 0 && getComputedStyle(n).visibility !== 'hidden'; });"
+            + "var enabled = visible.filter(function(n) { return !n.disabled; });"
+            + "return {count: nodes.length, visible: visible.length, enabled: enabled.length,"
+            + "  text: visible.length ? visible[0].innerText : null};";
+
+    // -Dform.fill=batched fills a form in one script call instead of clear()/sendKeys() per field
+    private static final boolean BATCHED_FILL = "batched".equalsIgnoreCase(System.getProperty("form.fill", "keys"));
+
+    // Sets each value through the native setter (React ignores plain .value writes), fires the
+    // input and change events React listens for, and reads the values back; null marks a field
+    // that could not be filled
+    private static final String FILL_FORM =
+            "var fields = arguments[0], values = arguments[1];"
+            + "return fields.map(function(field, i) {"
+            + "  if (!field.isConnected || field.getClientRects().length === 0 || field.disabled || field.readOnly) {"
+            + "    return null; }"
+            + "  var proto = field instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;"
+            + "  field.focus();"
+            + "  Object.getOwnPropertyDescriptor(proto, 'value').set.call(field, values[i]);"
+            + "  field.dispatchEvent(new Event('input', {bubbles: true}));"
+            + "  field.dispatchEvent(new Event('change', {bubbles: true}));"
+            + "  field.blur();"
+            + "  return field.value;"
+            + "});";
+
+    // Configuration for visibility (skipped with -Dexecution.profile=fast)
     private static final int STEP_DELAY_MS = 1000; // 1.0-second delay between steps
     private static final int ACTION_DELAY_MS = 500; // 0.5 second delay for actions
 
     public BasePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        PageFactory.initElements(driver, this);
+        this.wait = new WebDriverWait(driver, DEFAULT_TIMEOUT);
+        this.actionWait = new WebDriverWait(driver, DEFAULT_TIMEOUT);
+        this.actionWait.ignoring(InvalidElementStateException.class, StaleElementReferenceException.class);
     }
 
     // ========== ENHANCED WAIT & DELAY METHODS ==========
@@ -28,8 +87,8 @@ public class BasePage {
     protected void waitForCondition(Function<WebDriver, Boolean> condition, int timeoutSeconds, String description) {
         try {
             System.out.println("⏳ Waiting for: " + description);
-            new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds))
-                    .until(condition);
+            Pacing.timeWait(() -> new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds))
+                    .until(condition));
             System.out.println("✅ Condition met: " + description);
             stepDelay("After condition: " + description);
         } catch (Exception e) {
@@ -52,48 +111,158 @@ public class BasePage {
     // Wait for element to be visible and then click
     protected void waitAndClick(WebElement element, String elementDescription) {
         stepDelay("Before clicking " + elementDescription);
-        waitForElementToBeClickable(element);
-        element.click();
+        clickWhenReady(element);
         actionDelay("Clicked " + elementDescription);
     }
 
     // Wait for element to be visible and then type
     protected void waitAndType(WebElement element, String text, String elementDescription) {
         stepDelay("Before typing into " + elementDescription);
-        waitForElementToBeVisible(element);
-        element.clear();
-        element.sendKeys(text);
+        typeWhenReady(element, text);
         actionDelay("Typed '" + text + "' into " + elementDescription);
     }
 
     // Basic delay method
     protected void delay(int milliseconds) {
-        try {
-            Thread.sleep(milliseconds);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        Pacing.pause(milliseconds);
     }
 
     // ========== BASIC WAIT METHODS ==========
+    // With -Dwait.engine=mutation these block in the page (DomWaits) instead of polling
 
     protected void waitForElementToBeVisible(WebElement element) {
-        wait.until(ExpectedConditions.visibilityOf(element));
+        if (DomWaits.isEnabled()) {
+            Pacing.timeWait(() -> DomWaits.visibilityOf(driver, element, DEFAULT_TIMEOUT));
+            return;
+        }
+        Pacing.timeWait(() -> wait.until(ExpectedConditions.visibilityOf(element)));
+    }
+
+    protected void waitForTextInElement(WebElement element, String text) {
+        if (DomWaits.isEnabled()) {
+            Pacing.timeWait(() -> DomWaits.textToBePresentIn(driver, element, text, DEFAULT_TIMEOUT));
+            return;
+        }
+        Pacing.timeWait(() -> wait.until(ExpectedConditions.textToBePresentInElement(element, text)));
+    }
+
+    protected void waitForElementCount(By locator, int count) {
+        if (DomWaits.isEnabled()) {
+            Pacing.timeWait(() -> DomWaits.numberOfElementsToBe(driver, locator, count, DEFAULT_TIMEOUT));
+            return;
+        }
+        Pacing.timeWait(() -> wait.until(ExpectedConditions.numberOfElementsToBe(locator, count)));
+    }
+
+    protected void waitForElementCountAbove(By locator, int count) {
+        if (DomWaits.isEnabled()) {
+            Pacing.timeWait(() -> DomWaits.numberOfElementsToBeMoreThan(driver, locator, count, DEFAULT_TIMEOUT));
+            return;
+        }
+        Pacing.timeWait(() -> wait.until(ExpectedConditions.numberOfElementsToBeMoreThan(locator, count)));
+    }
+
+    protected void waitForUrlContains(String fragment) {
+        if (DomWaits.isEnabled()) {
+            Pacing.timeWait(() -> DomWaits.urlContains(driver, fragment, DEFAULT_TIMEOUT));
+            return;
+        }
+        Pacing.timeWait(() -> wait.until(ExpectedConditions.urlContains(fragment)));
     }
 
     protected void waitForElementToBeClickable(WebElement element) {
-        wait.until(ExpectedConditions.elementToBeClickable(element));
+        Pacing.timeWait(() -> wait.until(ExpectedConditions.elementToBeClickable(element)));
     }
 
     protected void click(WebElement element) {
-        waitForElementToBeClickable(element);
-        element.click();
+        clickWhenReady(element);
     }
 
     protected void type(WebElement element, String text) {
-        waitForElementToBeVisible(element);
-        element.clear();
-        element.sendKeys(text);
+        typeWhenReady(element, text);
+    }
+
+    // ========== COMPOSITE ACTIONS (readiness check and action in one step) ==========
+    // The action is its own readiness probe: it is retried until the element accepts it, instead of
+    // polling isDisplayed()/isEnabled() first. Commands saved against wait-then-act are counted as
+    // commands.saved.<primitive> (negative when retries cost more than the separate wait would have).
+    // A disabled button swallows a native click without error, so the click checks isEnabled() first
+    // and treats a disabled element as not ready yet.
+
+    protected void clickWhenReady(WebElement element) {
+        int attempts = untilAccepted(() -> {
+            if (!element.isEnabled()) {
+                // Ignored by actionWait, so the click is retried until the element is enabled
+                throw new InvalidElementStateException("Element is disabled: " + element);
+            }
+            element.click();
+        });
+        commandsSaved("clickWhenReady", CLICK_COMMANDS, attempts * 2);
+    }
+
+    protected void typeWhenReady(WebElement element, String text) {
+        int attempts = untilAccepted(() -> {
+            element.clear();
+            element.sendKeys(text);
+        });
+        commandsSaved("typeWhenReady", TYPE_COMMANDS, attempts * 2);
+    }
+
+    // Waits until the element's text contains the expected text and returns the full text. getText() is
+    // empty while an element is hidden, so the read doubles as the visibility check.
+    protected String assertTextWhenReady(WebElement element, String expected) {
+        int[] reads = {0};
+        String[] text = {""};
+        try {
+            Pacing.timeWait(() -> actionWait.until(d -> {
+                reads[0]++;
+                text[0] = element.getText();
+                return text[0].contains(expected);
+            }));
+        } catch (TimeoutException e) {
+            throw new AssertionError("Expected text containing '" + expected + "' but found '" + text[0] + "'", e);
+        } finally {
+            commandsSaved("assertTextWhenReady", READ_TEXT_COMMANDS, reads[0]);
+        }
+        return text[0];
+    }
+
+    // Runs the action until it stops throwing; returns how many attempts that took
+    private int untilAccepted(Runnable action) {
+        int[] attempts = {0};
+        Pacing.timeWait(() -> actionWait.until(d -> {
+            attempts[0]++;
+            action.run();
+            return true;
+        }));
+        return attempts[0];
+    }
+
+    private static void commandsSaved(String primitive, int baseline, int used) {
+        PerformanceMetrics.increment("commands." + primitive + ".calls");
+        PerformanceMetrics.add("commands.saved." + primitive, baseline - used);
+    }
+
+    // Fills the fields in order: one round trip with -Dform.fill=batched, otherwise type() per field.
+    // A field the batch could not fill or that reads back a different value is typed key by key.
+    @SuppressWarnings("unchecked")
+    protected void fillForm(List<WebElement> fields, List<String> values) {
+        if (!BATCHED_FILL) {
+            for (int i = 0; i < fields.size(); i++) {
+                type(fields.get(i), values.get(i));
+            }
+            return;
+        }
+
+        List<Object> actual = (List<Object>) ((JavascriptExecutor) driver).executeScript(FILL_FORM, fields, values);
+        PerformanceMetrics.increment("form.fill.batched");
+        for (int i = 0; i < fields.size(); i++) {
+            if (!values.get(i).equals(actual.get(i))) {
+                System.out.println("⚠️ Batched fill missed " + fields.get(i) + " - typing it instead");
+                PerformanceMetrics.increment("form.fill.fallback");
+                type(fields.get(i), values.get(i));
+            }
+        }
     }
 
     protected String getText(WebElement element) {
@@ -101,10 +270,75 @@ public class BasePage {
         return element.getText();
     }
 
+    // ========== PRESENCE QUERIES (one round trip, no implicit wait) ==========
+    // For elements that may legitimately be missing: these answer immediately instead of timing out
+
+    protected int countElements(By locator) {
+        return countElements(null, locator);
+    }
+
+    protected int countElements(WebElement within, By locator) {
+        return ((Number) queryElements(within, locator).get("count")).intValue();
+    }
+
+    protected boolean isElementAbsent(By locator) {
+        return countElements(locator) == 0;
+    }
+
+    protected boolean isElementDisplayed(By locator) {
+        return ((Number) queryElements(null, locator).get("visible")).intValue() > 0;
+    }
+
+    // Like isElementDisplayed, but a disabled match does not count
+    protected boolean isElementDisplayedAndEnabled(By locator) {
+        return ((Number) queryElements(null, locator).get("enabled")).intValue() > 0;
+    }
+
+    // Text of the first visible match, or null when nothing matching is shown
+    protected String getTextIfPresent(By locator) {
+        return (String) queryElements(null, locator).get("text");
+    }
+
+    // For elements that are expected to appear: polls getTextIfPresent for up to the default
+    // timeout, and returns null only if nothing was shown by then
+    protected String waitForTextIfPresent(By locator) {
+        try {
+            return Pacing.timeWait(() -> wait.until(d -> getTextIfPresent(locator)));
+        } catch (TimeoutException e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> queryElements(WebElement within, By locator) {
+        Map<String, Object> parameters = DomWaits.w3cLocator(locator);
+        Object using = parameters.get("using");
+        if (!"css selector".equals(using) && !"xpath".equals(using)) {
+            throw new IllegalArgumentException("Presence queries need a CSS or XPath locator: " + locator);
+        }
+        return (Map<String, Object>) ((JavascriptExecutor) driver)
+                .executeScript(QUERY_ELEMENTS, within, using, parameters.get("value"));
+    }
+
+    // Resolves every @FindBy field not yet resolved in one script call, so call it once the page
+    // has rendered; fields still missing look themselves up on first use. Returns how many were resolved.
+    public int prefetchElements() {
+        return elements == null ? 0 : elements.prefetch();
+    }
+
+    // Non-blocking commands for this page's session (see AsyncWebDriver)
+    protected AsyncWebDriver async() {
+        if (async == null) {
+            async = AsyncWebDriver.of(driver);
+        }
+        return async;
+    }
+
     protected boolean isElementDisplayed(WebElement element) {
         try {
+            // The wait only returns once the element is displayed; no need to ask again
             waitForElementToBeVisible(element);
-            return element.isDisplayed();
+            return true;
         } catch (Exception e) {
             return false;
         }
@@ -1,6 +1,12 @@
 package com.saucedemo.base;
 
+import com.saucedemo.pages.CartPage;
+import com.saucedemo.pages.CheckoutPage;
+import com.saucedemo.pages.LoginPage;
+import com.saucedemo.pages.ProductsPage;
+import com.saucedemo.utils.Animations;
 import com.saucedemo.utils.DriverManager;
+import com.saucedemo.utils.Pacing;
 import org.openqa.selenium.WebDriver;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
@@ -16,6 +22,9 @@ public class BaseTest {
     protected String browserName;
     protected org.openqa.selenium.support.ui.WebDriverWait wait;
 
+    // Page objects for the current test, built on first use
+    protected PageRegistry pages;
+
     // Add SauceDemo URL constant
     protected static final String SAUCE_DEMO_URL = "https://www.saucedemo.com/";
 
@@ -24,6 +33,7 @@ public class BaseTest {
     public void setUp(@Optional("chrome") String browser) {
         browserName = browser;
         driver = DriverManager.getDriver(browser);
+        pages = new PageRegistry(driver);
 
         // ADD THIS LINE: Navigate to SauceDemo
         navigateToSauceDemo();
@@ -36,9 +46,30 @@ public class BaseTest {
         // Optional: Take screenshot before quitting (for debugging)
         takeScreenshotOnFailure();
 
+        if (pages != null) {
+            pages.close();
+            pages = null;
+        }
         DriverManager.quitDriver();
     }
 
+    // ========== PAGE OBJECTS (built on first use, see PageRegistry) ==========
+    protected LoginPage loginPage() {
+        return pages.get(LoginPage.class, LoginPage::new);
+    }
+
+    protected ProductsPage productsPage() {
+        return pages.get(ProductsPage.class, ProductsPage::new);
+    }
+
+    protected CartPage cartPage() {
+        return pages.get(CartPage.class, CartPage::new);
+    }
+
+    protected CheckoutPage checkoutPage() {
+        return pages.get(CheckoutPage.class, CheckoutPage::new);
+    }
+
     // NEW METHOD: Navigate to SauceDemo
     protected void navigateToSauceDemo() {
         try {
@@ -76,8 +107,8 @@ public class BaseTest {
     protected void waitForCondition(Function<WebDriver, Boolean> condition, int timeoutSeconds, String description) {
         try {
             System.out.println("⏳ Waiting for: " + description);
-            new org.openqa.selenium.support.ui.WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds))
-                    .until(condition);
+            Pacing.timeWait(() -> new org.openqa.selenium.support.ui.WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds))
+                    .until(condition));
             System.out.println("✅ Condition met: " + description);
         } catch (Exception e) {
             System.out.println("❌ Timeout waiting for: " + description);
@@ -99,29 +130,26 @@ public class BaseTest {
         delay(500);
     }
 
+    // Skipped with -Dexecution.profile=fast
     protected void delay(int milliseconds) {
-        try {
-            Thread.sleep(milliseconds);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        Pacing.pause(milliseconds);
     }
 
     protected void waitForPageToLoad() {
         try {
             // Wait for document.readyState to be "complete"
-            wait.until(driver -> {
+            Pacing.timeWait(() -> wait.until(driver -> {
                 Object result = ((org.openqa.selenium.JavascriptExecutor) driver)
                         .executeScript("return document.readyState");
                 return result != null && result.equals("complete");
-            });
+            }));
             System.out.println("✅ Page loaded completely");
 
-            // Additional short delay for any animations
-            Thread.sleep(500);
+            // Additional short delay for any animations (none to wait for with -Ddisable.animations=true)
+            if (!Animations.isEnabled()) {
+                Pacing.pause(500);
+            }
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
         } catch (Exception e) {
             System.out.println("⚠️ Page load check encountered an error: " + e.getMessage());
         }
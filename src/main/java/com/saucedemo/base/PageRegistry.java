@@ -0,0 +1,55 @@
+package com.saucedemo.base;
+
+import com.saucedemo.utils.PerformanceMetrics;
+import org.openqa.selenium.WebDriver;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Page objects for one test, built on first access and thrown away at teardown.
+ *
+ * Tests used to build every page object up front in setUp, each with its own
+ * WebDriverWait and element binding, whether or not the test reached that page.
+ * close() prints which pages were actually built and records the count in
+ * PerformanceMetrics as the pages.built.per.test sample.
+ */
+public class PageRegistry {
+
+    private final WebDriver driver;
+    private final Map<Class<?>, BasePage> pages = new LinkedHashMap<>();
+
+    public PageRegistry(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    // The test's instance of the page, built with the factory the first time it is asked for.
+    // Nothing is resolved here: tests often ask for a page before it has rendered, so the elements
+    // are prefetched by the first field the test actually uses (see ElementGroup).
+    public <T extends BasePage> T get(Class<T> type, Function<WebDriver, T> factory) {
+        BasePage page = pages.get(type);
+        if (page == null) {
+            long start = System.currentTimeMillis();
+            page = factory.apply(driver);
+            PerformanceMetrics.recordTime("page.build." + type.getSimpleName(), System.currentTimeMillis() - start);
+            pages.put(type, page);
+        }
+        return type.cast(page);
+    }
+
+    public int size() {
+        return pages.size();
+    }
+
+    // Reports and discards this test's page objects
+    public void close() {
+        PerformanceMetrics.recordSample("pages.built.per.test", pages.size());
+        StringBuilder names = new StringBuilder();
+        for (Class<?> type : pages.keySet()) {
+            names.append(names.length() == 0 ? "" : ", ").append(type.getSimpleName());
+        }
+        System.out.println("📄 Page objects built: " + pages.size() + (pages.isEmpty() ? "" : " (" + names + ")"));
+        pages.clear();
+    }
+}
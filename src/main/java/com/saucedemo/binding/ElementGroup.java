@@ -0,0 +1,105 @@
+package com.saucedemo.binding;
+
+import com.saucedemo.utils.DomWaits;
+import com.saucedemo.utils.PerformanceMetrics;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The single-element fields of one page object, as declared by its generated binding.
+ *
+ * prefetch() resolves every field that has no element yet in one executeScript call and seeds
+ * the fields with the result, so the lookups the fields would each have made cost one round
+ * trip. A field that misses its cache triggers a prefetch of the whole group first, so the
+ * first interaction on a page resolves the page's other fields along with it. Fields the
+ * script cannot find (not rendered yet, or on a later step) fall back to their own findElement;
+ * their later misses do not run the group script again until their element has gone stale.
+ */
+public final class ElementGroup {
+
+    // Resolves [using, value] pairs to the first match, or null
+    private static final String RESOLVE =
+            "return arguments[0].map(function(locator) {"
+            + "  try {"
+            + "    if (locator[0] === 'xpath') {"
+            + "      return document.evaluate(locator[1], document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null)"
+            + "          .singleNodeValue; }"
+            + "    return document.querySelector(locator[1]);"
+            + "  } catch (e) { return null; }"
+            + "});";
+
+    private final SearchContext searchContext;
+    private final List<LazyWebElement> elements = new ArrayList<>();
+
+    public ElementGroup(SearchContext searchContext) {
+        this.searchContext = searchContext;
+    }
+
+    public LazyWebElement element(By locator, String fieldName) {
+        if (!isScriptable(locator)) {
+            return new LazyWebElement(null, searchContext, locator, fieldName);
+        }
+        LazyWebElement element = new LazyWebElement(this, searchContext, locator, fieldName);
+        elements.add(element);
+        return element;
+    }
+
+    public LazyWebElementList list(By locator, String fieldName) {
+        return new LazyWebElementList(searchContext, locator, fieldName);
+    }
+
+    // One round trip for every field without an element; returns how many were seeded
+    @SuppressWarnings("unchecked")
+    public int prefetch() {
+        if (!(searchContext instanceof JavascriptExecutor)) {
+            return 0;
+        }
+        List<LazyWebElement> pending = new ArrayList<>();
+        List<List<Object>> locators = new ArrayList<>();
+        for (LazyWebElement element : elements) {
+            if (!element.isResolved()) {
+                Map<String, Object> parameters = DomWaits.w3cLocator(element.getLocator());
+                pending.add(element);
+                locators.add(List.of(parameters.get("using"), parameters.get("value")));
+            }
+        }
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        List<Object> found;
+        try {
+            found = (List<Object>) ((JavascriptExecutor) searchContext).executeScript(RESOLVE, locators);
+        } catch (WebDriverException e) {
+            // Mid-navigation; the fields look themselves up instead
+            return 0;
+        }
+        PerformanceMetrics.increment("locator.prefetch.calls");
+
+        int seeded = 0;
+        for (int i = 0; i < pending.size(); i++) {
+            pending.get(i).markPrefetched();
+            if (found.get(i) instanceof WebElement && pending.get(i).seed((WebElement) found.get(i))) {
+                seeded++;
+            }
+        }
+        PerformanceMetrics.add("locator.prefetch.seeded", seeded);
+        return seeded;
+    }
+
+    // Only CSS and XPath (and id/name/class/tag, rewritten as CSS) can be resolved in the page
+    private static boolean isScriptable(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            return false;
+        }
+        Object using = DomWaits.w3cLocator(locator).get("using");
+        return "css selector".equals(using) || "xpath".equals(using);
+    }
+}
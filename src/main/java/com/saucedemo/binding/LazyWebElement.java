@@ -0,0 +1,270 @@
+package com.saucedemo.binding;
+
+import com.saucedemo.utils.PerformanceMetrics;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Coordinates;
+import org.openqa.selenium.interactions.Locatable;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A @FindBy field as bound by the generated Page_Binding classes.
+ *
+ * Nothing is looked up when the page object is built. The first call resolves the element -
+ * together with the rest of the page's fields, through its ElementGroup - and later calls
+ * reuse it until one fails with StaleElementReferenceException; that failure is the staleness
+ * probe, so it costs no extra round trip. The element is then looked up again and the call
+ * retried once.
+ *
+ * This is the caching the PageFactory-based CachingElementLocatorFactory used to provide,
+ * carried over when the reflective binding was replaced by generated code.
+ *
+ * Per-field counters are kept in PerformanceMetrics as
+ * locator.cache.hit|miss|stale.PAGE.FIELD (see {@link #hits(Class, String)}).
+ */
+public final class LazyWebElement implements WebElement, WrapsElement, Locatable {
+
+    private final ElementGroup group;
+    private final SearchContext searchContext;
+    private final By locator;
+    private final String fieldName;
+    private WebElement cached;
+    // Whether a group prefetch has already looked for this field since it was last invalidated
+    private boolean prefetched;
+
+    // Created through ElementGroup.element; group is null for locators the page script cannot resolve
+    LazyWebElement(ElementGroup group, SearchContext searchContext, By locator, String fieldName) {
+        this.group = group;
+        this.searchContext = searchContext;
+        this.locator = locator;
+        this.fieldName = fieldName;
+    }
+
+    public static long hits(Class<?> page, String field) {
+        return PerformanceMetrics.getCount("locator.cache.hit." + page.getSimpleName() + "." + field);
+    }
+
+    public static long misses(Class<?> page, String field) {
+        return PerformanceMetrics.getCount("locator.cache.miss." + page.getSimpleName() + "." + field);
+    }
+
+    public By getLocator() {
+        return locator;
+    }
+
+    // ========== RESOLUTION ==========
+
+    private WebElement resolve() {
+        synchronized (this) {
+            if (cached != null) {
+                PerformanceMetrics.increment("locator.cache.hit." + fieldName);
+                return cached;
+            }
+        }
+        // Resolve the whole page in one script; outside the lock, since it seeds the other fields too.
+        // A field the group script already missed looks itself up instead of running it again.
+        if (group != null && !wasPrefetched()) {
+            group.prefetch();
+        }
+        synchronized (this) {
+            if (cached != null) {
+                PerformanceMetrics.increment("locator.cache.hit." + fieldName);
+                return cached;
+            }
+            PerformanceMetrics.increment("locator.cache.miss." + fieldName);
+            cached = searchContext.findElement(locator);
+            return cached;
+        }
+    }
+
+    synchronized boolean isResolved() {
+        return cached != null;
+    }
+
+    private synchronized boolean wasPrefetched() {
+        return prefetched;
+    }
+
+    synchronized void markPrefetched() {
+        prefetched = true;
+    }
+
+    // Element found by a group prefetch; ignored if the field resolved itself meanwhile
+    synchronized boolean seed(WebElement element) {
+        if (cached != null) {
+            return false;
+        }
+        cached = element;
+        return true;
+    }
+
+    // Drops the element if it is still the cached one; false when there was nothing to drop
+    private synchronized boolean invalidate(WebElement stale) {
+        if (cached != stale) {
+            return cached != null;
+        }
+        cached = null;
+        prefetched = false;
+        PerformanceMetrics.increment("locator.cache.stale." + fieldName);
+        return true;
+    }
+
+    private <T> T call(Function<WebElement, T> action) {
+        WebElement element = resolve();
+        try {
+            return action.apply(element);
+        } catch (StaleElementReferenceException e) {
+            if (!invalidate(element)) {
+                throw e;
+            }
+        }
+        // The page re-rendered since the element was cached: look it up again once
+        return action.apply(resolve());
+    }
+
+    private void run(Consumer<WebElement> action) {
+        call(element -> {
+            action.accept(element);
+            return null;
+        });
+    }
+
+    // ========== WebElement ==========
+
+    @Override
+    public void click() {
+        run(WebElement::click);
+    }
+
+    @Override
+    public void submit() {
+        run(WebElement::submit);
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        run(element -> element.sendKeys(keysToSend));
+    }
+
+    @Override
+    public void clear() {
+        run(WebElement::clear);
+    }
+
+    @Override
+    public String getTagName() {
+        return call(WebElement::getTagName);
+    }
+
+    @Override
+    public String getDomProperty(String name) {
+        return call(element -> element.getDomProperty(name));
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        return call(element -> element.getDomAttribute(name));
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        return call(element -> element.getAttribute(name));
+    }
+
+    @Override
+    public String getAriaRole() {
+        return call(WebElement::getAriaRole);
+    }
+
+    @Override
+    public String getAccessibleName() {
+        return call(WebElement::getAccessibleName);
+    }
+
+    @Override
+    public boolean isSelected() {
+        return call(WebElement::isSelected);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return call(WebElement::isEnabled);
+    }
+
+    @Override
+    public String getText() {
+        return call(WebElement::getText);
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return call(element -> element.findElements(by));
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return call(element -> element.findElement(by));
+    }
+
+    @Override
+    public SearchContext getShadowRoot() {
+        return call(WebElement::getShadowRoot);
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        return call(WebElement::isDisplayed);
+    }
+
+    @Override
+    public Point getLocation() {
+        return call(WebElement::getLocation);
+    }
+
+    @Override
+    public Dimension getSize() {
+        return call(WebElement::getSize);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return call(WebElement::getRect);
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        return call(element -> element.getCssValue(propertyName));
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        return call(element -> element.getScreenshotAs(target));
+    }
+
+    // ========== WrapsElement / Locatable ==========
+
+    @Override
+    public WebElement getWrappedElement() {
+        return resolve();
+    }
+
+    @Override
+    public Coordinates getCoordinates() {
+        return call(element -> ((Locatable) element).getCoordinates());
+    }
+
+    @Override
+    public String toString() {
+        return "Lazy element for " + fieldName + " (" + locator + ")";
+    }
+}
@@ -0,0 +1,106 @@
+package com.saucedemo.binding;
+
+import com.saucedemo.utils.PerformanceMetrics;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Spliterator;
+
+/**
+ * A List<WebElement> @FindBy field as bound by the generated Page_Binding classes.
+ *
+ * Every access runs findElements, like PageFactory's list proxy: a list can grow or shrink
+ * without any element going stale, so there is nothing safe to cache. Iteration works on a
+ * single lookup rather than one per element.
+ */
+public final class LazyWebElementList extends AbstractList<WebElement> {
+
+    private final SearchContext searchContext;
+    private final By locator;
+    private final String fieldName;
+
+    public LazyWebElementList(SearchContext searchContext, By locator, String fieldName) {
+        this.searchContext = searchContext;
+        this.locator = locator;
+        this.fieldName = fieldName;
+    }
+
+    public By getLocator() {
+        return locator;
+    }
+
+    private List<WebElement> lookup() {
+        PerformanceMetrics.increment("locator.cache.miss." + fieldName);
+        return searchContext.findElements(locator);
+    }
+
+    @Override
+    public WebElement get(int index) {
+        return lookup().get(index);
+    }
+
+    @Override
+    public int size() {
+        return lookup().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return lookup().isEmpty();
+    }
+
+    @Override
+    public Iterator<WebElement> iterator() {
+        return lookup().iterator();
+    }
+
+    @Override
+    public ListIterator<WebElement> listIterator(int index) {
+        return lookup().listIterator(index);
+    }
+
+    @Override
+    public Spliterator<WebElement> spliterator() {
+        return lookup().spliterator();
+    }
+
+    @Override
+    public List<WebElement> subList(int fromIndex, int toIndex) {
+        return lookup().subList(fromIndex, toIndex);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return lookup().toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] array) {
+        return lookup().toArray(array);
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return lookup().contains(element);
+    }
+
+    @Override
+    public int indexOf(Object element) {
+        return lookup().indexOf(element);
+    }
+
+    @Override
+    public int lastIndexOf(Object element) {
+        return lookup().lastIndexOf(element);
+    }
+
+    @Override
+    public String toString() {
+        return "Lazy element list for " + fieldName + " (" + locator + ")";
+    }
+}
@@ -0,0 +1,261 @@
+package com.saucedemo.binding.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a PAGE_Binding class for every class with @FindBy fields, replacing
+ * PageFactory.initElements: the generated bind(page, driver) assigns each field a
+ * LazyWebElement (or LazyWebElementList) for its locator, with no reflection or proxies,
+ * and returns the page's ElementGroup so its elements can be resolved in one script call.
+ *
+ * Bound fields must not be private or final, since the binding sits in the page's package
+ * and assigns them directly. Only the single-locator @FindBy form is supported.
+ *
+ * Runs in the default-compile execution; see the maven-compiler-plugin setup in pom.xml.
+ */
+@SupportedAnnotationTypes(PageBindingProcessor.FIND_BY)
+public class PageBindingProcessor extends AbstractProcessor {
+
+    static final String FIND_BY = "org.openqa.selenium.support.FindBy";
+
+    // @FindBy(attribute = value) -> By factory method
+    private static final Map<String, String> BY_ATTRIBUTES = new LinkedHashMap<>();
+    // @FindBy(how = How.X, using = value) -> By factory method
+    private static final Map<String, String> HOW_VALUES = new LinkedHashMap<>();
+
+    static {
+        BY_ATTRIBUTES.put("id", "By.id");
+        BY_ATTRIBUTES.put("name", "By.name");
+        BY_ATTRIBUTES.put("className", "By.className");
+        BY_ATTRIBUTES.put("css", "By.cssSelector");
+        BY_ATTRIBUTES.put("tagName", "By.tagName");
+        BY_ATTRIBUTES.put("linkText", "By.linkText");
+        BY_ATTRIBUTES.put("partialLinkText", "By.partialLinkText");
+        BY_ATTRIBUTES.put("xpath", "By.xpath");
+
+        HOW_VALUES.put("ID", "By.id");
+        HOW_VALUES.put("NAME", "By.name");
+        HOW_VALUES.put("ID_OR_NAME", "new ByIdOrName");
+        HOW_VALUES.put("CLASS_NAME", "By.className");
+        HOW_VALUES.put("CSS", "By.cssSelector");
+        HOW_VALUES.put("TAG_NAME", "By.tagName");
+        HOW_VALUES.put("LINK_TEXT", "By.linkText");
+        HOW_VALUES.put("PARTIAL_LINK_TEXT", "By.partialLinkText");
+        HOW_VALUES.put("XPATH", "By.xpath");
+    }
+
+    private Filer filer;
+    private Messager messager;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Map<TypeElement, List<VariableElement>> pages = new LinkedHashMap<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.FIELD) {
+                    error(element, "@FindBy bindings are generated for fields only");
+                    continue;
+                }
+                pages.computeIfAbsent((TypeElement) element.getEnclosingElement(), k -> new ArrayList<>())
+                        .add((VariableElement) element);
+            }
+        }
+
+        for (Map.Entry<TypeElement, List<VariableElement>> page : pages.entrySet()) {
+            generate(page.getKey(), page.getValue());
+        }
+        return true;
+    }
+
+    // ========== GENERATION ==========
+
+    private void generate(TypeElement page, List<VariableElement> fields) {
+        String packageName = packageOf(page);
+        String pageName = page.getSimpleName().toString();
+        String bindingName = pageName + "_Binding";
+
+        List<String> assignments = new ArrayList<>();
+        for (VariableElement field : fields) {
+            String assignment = assignment(pageName, field);
+            if (assignment != null) {
+                assignments.add(assignment);
+            }
+        }
+        if (assignments.size() != fields.size()) {
+            return;
+        }
+
+        try {
+            JavaFileObject source = filer.createSourceFile(packageName + "." + bindingName, page);
+            try (PrintWriter out = new PrintWriter(source.openWriter())) {
+                out.println("package " + packageName + ";");
+                out.println();
+                out.println("import com.saucedemo.binding.ElementGroup;");
+                out.println("import org.openqa.selenium.By;");
+                out.println("import org.openqa.selenium.SearchContext;");
+                out.println("import org.openqa.selenium.support.ByIdOrName;");
+                out.println();
+                out.println("// Generated by PageBindingProcessor from the @FindBy fields of " + pageName + " - do not edit");
+                out.println("final class " + bindingName + " {");
+                out.println();
+                out.println("    private " + bindingName + "() {}");
+                out.println();
+                out.println("    static ElementGroup bind(" + pageName + " page, SearchContext searchContext) {");
+                out.println("        ElementGroup group = new ElementGroup(searchContext);");
+                for (String assignment : assignments) {
+                    out.println("        " + assignment);
+                }
+                out.println("        return group;");
+                out.println("    }");
+                out.println("}");
+            }
+        } catch (IOException e) {
+            error(page, "Could not write " + bindingName + ": " + e.getMessage());
+        }
+    }
+
+    private String assignment(String pageName, VariableElement field) {
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.FINAL) || modifiers.contains(Modifier.STATIC)) {
+            error(field, "@FindBy fields must be non-private, non-final instance fields to be bound");
+            return null;
+        }
+
+        String factory = factoryFor(field.asType());
+        if (factory == null) {
+            error(field, "@FindBy fields must be WebElement or List<WebElement>");
+            return null;
+        }
+
+        String by = locatorFor(field);
+        if (by == null) {
+            return null;
+        }
+        String fieldName = pageName + "." + field.getSimpleName();
+        return "page." + field.getSimpleName() + " = group." + factory + "(" + by + ", " + literal(fieldName) + ");";
+    }
+
+    // ElementGroup method that creates the field's lazy element or list
+    private static String factoryFor(TypeMirror type) {
+        String name = type.toString();
+        if ("org.openqa.selenium.WebElement".equals(name)) {
+            return "element";
+        }
+        if (type instanceof DeclaredType && name.startsWith("java.util.List<")) {
+            List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+            if (arguments.size() == 1 && "org.openqa.selenium.WebElement".equals(arguments.get(0).toString())) {
+                return "list";
+            }
+        }
+        return null;
+    }
+
+    // Reads the annotation through its mirror, so the processor needs no Selenium on its path
+    private String locatorFor(VariableElement field) {
+        AnnotationMirror findBy = null;
+        for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            if (FIND_BY.equals(mirror.getAnnotationType().toString())) {
+                findBy = mirror;
+            }
+        }
+
+        String how = null;
+        String using = null;
+        List<String> locators = new ArrayList<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : findBy.getElementValues().entrySet()) {
+            String attribute = entry.getKey().getSimpleName().toString();
+            Object value = entry.getValue().getValue();
+            if ("how".equals(attribute)) {
+                how = value.toString();
+            } else if ("using".equals(attribute)) {
+                using = value.toString();
+            } else if (BY_ATTRIBUTES.containsKey(attribute)) {
+                locators.add(BY_ATTRIBUTES.get(attribute) + "(" + literal(value.toString()) + ")");
+            }
+        }
+        if (how != null && !"UNSET".equals(how)) {
+            if (!HOW_VALUES.containsKey(how) || using == null) {
+                error(field, "@FindBy(how = " + how + ") needs a supported How and a using value");
+                return null;
+            }
+            locators.add(HOW_VALUES.get(how) + "(" + literal(using) + ")");
+        }
+
+        if (locators.size() != 1) {
+            error(field, "@FindBy must name exactly one locator");
+            return null;
+        }
+        return locators.get(0);
+    }
+
+    // ========== HELPERS ==========
+
+    private static String packageOf(Element element) {
+        while (!(element instanceof PackageElement)) {
+            element = element.getEnclosingElement();
+        }
+        return ((PackageElement) element).getQualifiedName().toString();
+    }
+
+    private static String literal(String value) {
+        StringBuilder out = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                default:
+                    out.append(c);
+            }
+        }
+        return out.append('"').toString();
+    }
+
+    private void error(Element element, String message) {
+        messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -2,8 +2,13 @@ package com.saucedemo.listeners;
 
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
+import com.saucedemo.utils.Animations;
 import com.saucedemo.utils.DriverManager;
+import com.saucedemo.utils.DriverPool;
 import com.saucedemo.utils.ExtentReportManager;
+import com.saucedemo.utils.ImplicitWaitProfiler;
+import com.saucedemo.utils.Pacing;
+import com.saucedemo.utils.PerformanceMetrics;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
@@ -15,33 +20,53 @@ import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class TestListener implements ITestListener, ISuiteListener {
 
-    private static final ThreadLocal<ExtentTest> test = new ThreadLocal<>();
+    // Filled in by the report consumer thread; see ExtentReportManager.submit
+    private static final ThreadLocal<AtomicReference<ExtentTest>> test = new ThreadLocal<>();
     private static ExtentReports extent;
 
     @Override
     public void onStart(ISuite suite) {
         extent = ExtentReportManager.getInstance();
+        scheduleDriverSessions(suite);
+    }
+
+    // Tell the driver pool how many tests each browser will run so it can boot sessions ahead of time
+    private void scheduleDriverSessions(ISuite suite) {
+        Map<String, Integer> testsPerBrowser = new HashMap<>();
+        for (ITestNGMethod method : suite.getAllMethods()) {
+            String browser = method.getXmlTest().getParameter("browser");
+            testsPerBrowser.merge(browser == null ? "chrome" : browser.toLowerCase(), 1, Integer::sum);
+        }
+        testsPerBrowser.forEach(DriverPool::schedule);
     }
 
     @Override
     public void onTestStart(ITestResult result) {
         String testName = result.getMethod().getMethodName();
-        ExtentTest extentTest = extent.createTest(testName);
+        AtomicReference<ExtentTest> extentTest = new AtomicReference<>();
         test.set(extentTest);
+        ExtentReportManager.submit(() -> extentTest.set(extent.createTest(testName)));
     }
 
     @Override
     public void onTestSuccess(ITestResult result) {
-        test.get().pass("Test passed");
+        AtomicReference<ExtentTest> t = test.get();
+        ExtentReportManager.submit(() -> t.get().pass("Test passed"));
+        Animations.recordTest(result.getEndMillis() - result.getStartMillis());
     }
 
     @Override
     public void onTestFailure(ITestResult result) {
-        ExtentTest t = test.get();
-        t.fail(result.getThrowable());
+        AtomicReference<ExtentTest> t = test.get();
+        Throwable throwable = result.getThrowable();
+        ExtentReportManager.submit(() -> t.get().fail(throwable));
+        Animations.recordTest(result.getEndMillis() - result.getStartMillis());
 
         try {
             // Capture screenshot
@@ -60,25 +85,35 @@ public class TestListener implements ITestListener, ISuiteListener {
                 if (parentDir != null && !parentDir.exists()) {
                     boolean dirsCreated = parentDir.mkdirs();
                     if (!dirsCreated) {
-                        t.warning("Failed to create screenshot directory");
+                        ExtentReportManager.submit(() -> t.get().warning("Failed to create screenshot directory"));
                         return;
                     }
                 }
 
                 // Copy file with proper exception handling
                 Files.copy(src.toPath(), dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
-                t.addScreenCaptureFromPath(screenshotPath);
+                ExtentReportManager.submit(() -> {
+                    try {
+                        t.get().addScreenCaptureFromPath(screenshotPath);
+                    } catch (IOException e) {
+                        t.get().warning("Screenshot capture failed (IOException): " + e.getMessage());
+                    }
+                });
             }
         } catch (IOException e) {
-            t.warning("Screenshot capture failed (IOException): " + e.getMessage());
+            String message = e.getMessage();
+            ExtentReportManager.submit(() -> t.get().warning("Screenshot capture failed (IOException): " + message));
         } catch (Exception e) {
-            t.warning("Screenshot capture failed: " + e.getMessage());
+            String message = e.getMessage();
+            ExtentReportManager.submit(() -> t.get().warning("Screenshot capture failed: " + message));
         }
     }
 
     @Override
     public void onTestSkipped(ITestResult result) {
-        test.get().skip(result.getThrowable());
+        AtomicReference<ExtentTest> t = test.get();
+        Throwable throwable = result.getThrowable();
+        ExtentReportManager.submit(() -> t.get().skip(throwable));
     }
 
     @Override
@@ -99,7 +134,13 @@ public class TestListener implements ITestListener, ISuiteListener {
     @Override
     public void onFinish(ISuite suite) {
         if (extent != null) {
-            extent.flush();
+            // Report events are applied on ExtentReportManager's consumer thread; flush there too
+            ExtentReportManager.submit(extent::flush);
+            ExtentReportManager.awaitPending();
         }
+        PerformanceMetrics.printSummary();
+        Pacing.printSummary();
+        ImplicitWaitProfiler.printReport();
+        Animations.printSummary();
     }
 }
\ No newline at end of file
@@ -5,38 +5,31 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 
 import java.util.List;
 
 public class CartPage extends BasePage {
 
-    // Page Elements
+    // An empty cart has no cart_item rows, so count them without waiting
+    private static final By CART_ITEM = By.className("cart_item");
+
+    // Page Elements (package-private: assigned by the generated CartPage_Binding)
     @FindBy(className = "title")
-    private WebElement pageTitle;
+    WebElement pageTitle;
 
     @FindBy(id = "checkout")
-    private WebElement checkoutButton;
+    WebElement checkoutButton;
 
     @FindBy(id = "continue-shopping")
-    private WebElement continueShoppingButton;
+    WebElement continueShoppingButton;
 
     @FindBy(className = "cart_item")
-    private List<WebElement> cartItems;
-
-    @FindBy(className = "cart_quantity")
-    private List<WebElement> cartQuantities;
-
-    @FindBy(className = "inventory_item_name")
-    private List<WebElement> itemNames;
-
-    @FindBy(className = "inventory_item_price")
-    private List<WebElement> itemPrices;
+    List<WebElement> cartItems;
 
     // Constructor
     public CartPage(WebDriver driver) {
         super(driver);
-        PageFactory.initElements(driver, this);
+        elements = CartPage_Binding.bind(this, driver);
     }
 
     // ========== PAGE VERIFICATION METHODS ==========
@@ -67,36 +60,31 @@ public class CartPage extends BasePage {
     // ========== CART ITEM METHODS ==========
 
     public int getNumberOfItemsInCart() {
-        try {
-            return cartItems.size();
-        } catch (Exception e) {
-            return 0;
-        }
+        return countElements(CART_ITEM);
     }
 
     public boolean isCartEmpty() {
         return getNumberOfItemsInCart() == 0;
     }
 
+    // Names, prices and quantities of every cart item, in one round trip
+    public List<ItemSnapshot> snapshot() {
+        return ItemSnapshot.scrape(driver, ".cart_item");
+    }
+
     public String getItemName(int index) {
-        if (index < itemNames.size()) {
-            return itemNames.get(index).getText();
-        }
-        return "";
+        List<ItemSnapshot> items = snapshot();
+        return index < items.size() ? items.get(index).getName() : "";
     }
 
     public String getItemPrice(int index) {
-        if (index < itemPrices.size()) {
-            return itemPrices.get(index).getText();
-        }
-        return "";
+        List<ItemSnapshot> items = snapshot();
+        return index < items.size() ? items.get(index).getPriceText() : "";
     }
 
     public String getItemQuantity(int index) {
-        if (index < cartQuantities.size()) {
-            return cartQuantities.get(index).getText();
-        }
-        return "";
+        List<ItemSnapshot> items = snapshot();
+        return index < items.size() ? String.valueOf(items.get(index).getQuantity()) : "";
     }
 
     // ========== ACTION METHODS ==========
@@ -118,9 +106,9 @@ public class CartPage extends BasePage {
     }
 
     public void removeItem(String itemName) {
-        for (int i = 0; i < itemNames.size(); i++) {
-            if (itemNames.get(i).getText().equals(itemName)) {
-                removeItem(i);
+        for (ItemSnapshot item : snapshot()) {
+            if (item.getName().equals(itemName)) {
+                removeItem(item.getIndex());
                 break;
             }
         }
@@ -135,11 +123,7 @@ public class CartPage extends BasePage {
     // ========== BUTTON VERIFICATION METHODS ==========
 
     public boolean isCheckoutButtonDisplayed() {
-        try {
-            return checkoutButton.isDisplayed() && checkoutButton.isEnabled();
-        } catch (Exception e) {
-            return false;
-        }
+        return isElementDisplayedAndEnabled(By.id("checkout"));
 
     }
 
@@ -147,18 +131,14 @@ public class CartPage extends BasePage {
         clickCheckout(); // Call the existing method
     }
     public boolean isContinueShoppingButtonDisplayed() {
-        try {
-            return continueShoppingButton.isDisplayed() && continueShoppingButton.isEnabled();
-        } catch (Exception e) {
-            return false;
-        }
+        return isElementDisplayedAndEnabled(By.id("continue-shopping"));
     }
 
     // ========== UTILITY METHODS ==========
 
     public boolean verifyCartContainsItem(String itemName) {
-        for (WebElement nameElement : itemNames) {
-            if (nameElement.getText().equals(itemName)) {
+        for (ItemSnapshot item : snapshot()) {
+            if (item.getName().equals(itemName)) {
                 return true;
             }
         }
@@ -167,9 +147,8 @@ public class CartPage extends BasePage {
 
     public double getTotalPrice() {
         double total = 0.0;
-        for (WebElement priceElement : itemPrices) {
-            String priceText = priceElement.getText().replace("$", "");
-            total += Double.parseDouble(priceText);
+        for (ItemSnapshot item : snapshot()) {
+            total += item.getPrice();
         }
         return total;
     }
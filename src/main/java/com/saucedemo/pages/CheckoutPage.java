@@ -4,40 +4,40 @@ import com.saucedemo.base.BasePage;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
+
+import java.util.Arrays;
 
 public class CheckoutPage extends BasePage {
 
-    // Page Elements
+    // Page Elements (package-private: assigned by the generated CheckoutPage_Binding)
     @FindBy(id = "first-name")
-    private WebElement firstNameField;
+    WebElement firstNameField;
 
     @FindBy(id = "last-name")
-    private WebElement lastNameField;
+    WebElement lastNameField;
 
     @FindBy(id = "postal-code")
-    private WebElement postalCodeField;
+    WebElement postalCodeField;
 
     @FindBy(id = "continue")
-    private WebElement continueButton;
+    WebElement continueButton;
 
     @FindBy(id = "finish")
-    private WebElement finishButton;
+    WebElement finishButton;
 
     @FindBy(className = "complete-header")
-    private WebElement successMessage;
+    WebElement successMessage;
 
     // Constructor
     public CheckoutPage(WebDriver driver) {
         super(driver);
-        PageFactory.initElements(driver, this);
+        elements = CheckoutPage_Binding.bind(this, driver);
     }
 
     // Fill checkout information
     public void fillInformation(String firstName, String lastName, String postalCode) {
-        type(firstNameField, firstName);
-        type(lastNameField, lastName);
-        type(postalCodeField, postalCode);
+        fillForm(Arrays.asList(firstNameField, lastNameField, postalCodeField),
+                Arrays.asList(firstName, lastName, postalCode));
     }
 
     // Click continue button
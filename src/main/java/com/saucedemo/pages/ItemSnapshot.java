@@ -0,0 +1,119 @@
+package com.saucedemo.pages;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable state of one inventory or cart item, scraped together with every other item
+ * on the page in a single executeScript call (see ProductsPage.snapshot and CartPage.snapshot).
+ */
+public final class ItemSnapshot {
+
+    // One round trip for the whole list instead of a getText() per field per item
+    private static final String SCRAPE =
+            "return Array.prototype.map.call(document.querySelectorAll(arguments[0]), function(item) {"
+            + "  var text = function(selector) {"
+            + "    var element = item.querySelector(selector); return element ? element.innerText.trim() : ''; };"
+            + "  return {name: text('.inventory_item_name'), description: text('.inventory_item_desc'),"
+            + "          price: text('.inventory_item_price'), quantity: text('.cart_quantity'), button: text('button')};"
+            + "});";
+
+    private final int index;
+    private final String name;
+    private final String description;
+    private final String priceText;
+    private final int quantity;
+    private final String buttonText;
+
+    private ItemSnapshot(int index, String name, String description, String priceText, int quantity, String buttonText) {
+        this.index = index;
+        this.name = name;
+        this.description = description;
+        this.priceText = priceText;
+        this.quantity = quantity;
+        this.buttonText = buttonText;
+    }
+
+    // Every item matching the selector, in page order
+    @SuppressWarnings("unchecked")
+    static List<ItemSnapshot> scrape(WebDriver driver, String itemSelector) {
+        List<Map<String, Object>> rows = (List<Map<String, Object>>) ((JavascriptExecutor) driver)
+                .executeScript(SCRAPE, itemSelector);
+
+        List<ItemSnapshot> items = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            String quantity = (String) row.get("quantity");
+            items.add(new ItemSnapshot(items.size(), (String) row.get("name"), (String) row.get("description"),
+                    (String) row.get("price"), quantity.isEmpty() ? 0 : Integer.parseInt(quantity),
+                    (String) row.get("button")));
+        }
+        return Collections.unmodifiableList(items);
+    }
+
+    // Position on the page, matching the order of the page's item elements
+    public int getIndex() {
+        return index;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    // Price as displayed, e.g. "$29.99"
+    public String getPriceText() {
+        return priceText;
+    }
+
+    public double getPrice() {
+        return priceText.isEmpty() ? 0.0 : Double.parseDouble(priceText.replace("$", ""));
+    }
+
+    // Cart quantity; 0 on the products page, which shows none
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public String getButtonText() {
+        return buttonText;
+    }
+
+    // Products page: the item's button offers "Remove" once it is in the cart
+    public boolean isInCart() {
+        return "Remove".equalsIgnoreCase(buttonText);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ItemSnapshot)) {
+            return false;
+        }
+        ItemSnapshot that = (ItemSnapshot) other;
+        return index == that.index && quantity == that.quantity && name.equals(that.name)
+                && description.equals(that.description) && priceText.equals(that.priceText)
+                && buttonText.equals(that.buttonText);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, name, description, priceText, quantity, buttonText);
+    }
+
+    @Override
+    public String toString() {
+        return "ItemSnapshot{" + index + ": " + name + ", " + priceText
+                + (quantity > 0 ? ", qty " + quantity : "") + ", [" + buttonText + "]}";
+    }
+}
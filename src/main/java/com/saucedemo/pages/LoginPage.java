@@ -1,30 +1,32 @@
 package com.saucedemo.pages;
 
 import com.saucedemo.base.BasePage;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
+
+import java.util.Arrays;
 
 public class LoginPage extends BasePage {
 
-    // Page Elements
+    // Only rendered after a failed login, a moment after the click
+    private static final By ERROR_MESSAGE = By.cssSelector(".error-message-container h3");
+
+    // Page Elements (package-private: assigned by the generated LoginPage_Binding)
     @FindBy(id = "user-name")
-    private WebElement usernameField;
+    WebElement usernameField;
 
     @FindBy(id = "password")
-    private WebElement passwordField;
+    WebElement passwordField;
 
     @FindBy(id = "login-button")
-    private WebElement loginButton;
-
-    @FindBy(css = ".error-message-container h3")
-    private WebElement errorMessage;
+    WebElement loginButton;
 
     // Constructor
     public LoginPage(WebDriver driver) {
         super(driver);
-        PageFactory.initElements(driver, this);
+        elements = LoginPage_Binding.bind(this, driver);
     }
 
     // ========== NEW METHODS TO ADD ==========
@@ -48,30 +50,21 @@ public class LoginPage extends BasePage {
 
     // Login method (if you already have it)
     public void login(String username, String password) {
-        enterUsername(username);
-        enterPassword(password);
+        fillForm(Arrays.asList(usernameField, passwordField), Arrays.asList(username, password));
         clickLogin();
     }
 
-    // Get error message
+    // Get error message (waits for the banner; callers check it right after clickLogin)
     public String getErrorMessage() {
-        try {
-            waitForElementToBeVisible(errorMessage);
-            return errorMessage.getText();
-        } catch (Exception e) {
-            return "";
-        }
+        String message = waitForTextIfPresent(ERROR_MESSAGE);
+        return message == null ? "" : message;
     }
 
     // Check if on login page
     public boolean isLoginPageDisplayed() {
-        try {
-            return loginButton.isDisplayed() &&
-                    usernameField.isDisplayed() &&
-                    passwordField.isDisplayed();
-        } catch (Exception e) {
-            return false;
-        }
+        return isElementDisplayed(By.id("login-button")) &&
+                isElementDisplayed(By.id("user-name")) &&
+                isElementDisplayed(By.id("password"));
     }
 
     // Clear login form
@@ -1,52 +1,94 @@
 package com.saucedemo.pages;
 
 import com.saucedemo.base.BasePage;
+import com.saucedemo.utils.PerformanceMetrics;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.Select;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class ProductsPage extends BasePage {
 
-    // Page Elements
+    // Optional elements, queried without waiting (see BasePage presence queries)
+    private static final By CART_BADGE = By.className("shopping_cart_badge");
+    private static final By REMOVE_BUTTON = By.xpath(".//button[contains(text(), 'Remove')]");
+
+    // Every product's name and button, in one round trip
+    private static final String INDEX_PRODUCTS =
+            "return Array.prototype.map.call(document.querySelectorAll('.inventory_item'), function(item) {"
+            + "  return {name: item.querySelector('.inventory_item_name').innerText.trim(),"
+            + "          button: item.querySelector('button')};"
+            + "});";
+
+    // Clicks one indexed button if the page shows it in the wanted state. The state is read from
+    // the live button, never from the index, so cart changes made elsewhere are always seen.
+    // Both scripts click in the page: no clickWhenReady retry, no pacing and no native event, which
+    // the product buttons do not need. The clicks are counted as products.click.script.
+    private static final String CLICK_IF_IN_STATE =
+            "var button = arguments[0], inCart = arguments[1];"
+            + "if (!button.isConnected) { return 'stale'; }"
+            + "if ((button.innerText.trim().toLowerCase() === 'remove') !== inCart) { return 'other-state'; }"
+            + "button.click();"
+            + "return 'clicked';";
+
+    // Clicks the buttons of the named products that are in the wanted state; returns the names
+    // not found and how many buttons were clicked
+    private static final String CLICK_BY_NAME =
+            "var wanted = arguments[0], inCart = arguments[1], missing = wanted.slice(), clicked = 0;"
+            + "document.querySelectorAll('.inventory_item').forEach(function(item) {"
+            + "  var name = item.querySelector('.inventory_item_name').innerText.trim();"
+            + "  var button = item.querySelector('button');"
+            + "  if (wanted.indexOf(name) >= 0) {"
+            + "    var i = missing.indexOf(name);"
+            + "    if (i >= 0) { missing.splice(i, 1); }"
+            + "    if ((button.innerText.trim().toLowerCase() === 'remove') === inCart) { button.click(); clicked++; }"
+            + "  }"
+            + "});"
+            + "return {missing: missing, clicked: clicked};";
+
+    // Name -> product button, built on first use and rebuilt when a button has been re-rendered
+    // (stale or detached) or a name is missing; it holds no cart state
+    private Map<String, WebElement> productIndex;
+
+    // Page Elements (package-private: assigned by the generated ProductsPage_Binding)
     @FindBy(className = "inventory_item")
-    private List<WebElement> productItems;
-
-    @FindBy(className = "shopping_cart_badge")
-    private WebElement cartBadge;
+    List<WebElement> productItems;
 
     @FindBy(className = "title")
-    private WebElement pageTitle;
+    WebElement pageTitle;
 
     @FindBy(id = "react-burger-menu-btn")
-    private WebElement burgerMenu;
+    WebElement burgerMenu;
 
     @FindBy(id = "logout_sidebar_link")
-    private WebElement logoutLink;
+    WebElement logoutLink;
 
     @FindBy(className = "shopping_cart_link")
-    private WebElement cartIcon;
+    WebElement cartIcon;
 
     @FindBy(className = "product_sort_container")
-    private WebElement sortDropdown;
+    WebElement sortDropdown;
 
     @FindBy(className = "inventory_item_name")
-    private List<WebElement> productNames;
+    List<WebElement> productNames;
 
     @FindBy(className = "inventory_item_price")
-    private List<WebElement> productPrices;
+    List<WebElement> productPrices;
 
     @FindBy(className = "inventory_item_desc")
-    private List<WebElement> productDescriptions;
+    List<WebElement> productDescriptions;
 
     // Constructor
     public ProductsPage(WebDriver driver) {
         super(driver);
-        PageFactory.initElements(driver, this);
+        elements = ProductsPage_Binding.bind(this, driver);
     }
 
     // ========== ADD THIS MISSING METHOD ==========
@@ -59,15 +101,19 @@ public class ProductsPage extends BasePage {
         return getCartBadgeCount();
     }
 
+    // ========== SNAPSHOT ==========
+
+    // Names, descriptions, prices and button states of every product, in one round trip
+    public List<ItemSnapshot> snapshot() {
+        return ItemSnapshot.scrape(driver, ".inventory_item");
+    }
+
     // ========== EXISTING METHODS ==========
 
     public String getCartBadgeCount() {
-        try {
-            waitForElementToBeVisible(cartBadge);
-            return cartBadge.getText();
-        } catch (Exception e) {
-            return "0"; // Cart badge might not be visible if cart is empty
-        }
+        // The badge is not rendered at all while the cart is empty
+        String count = getTextIfPresent(CART_BADGE);
+        return count == null ? "0" : count;
     }
 
     public void clickCartIcon() {
@@ -111,17 +157,12 @@ public class ProductsPage extends BasePage {
     }
 
     public void addItemToCart(String itemName) {
-        for (WebElement item : productItems) {
-            WebElement itemNameElement = item.findElement(By.className("inventory_item_name"));
-            if (itemNameElement.getText().equals(itemName)) {
-                WebElement addToCartButton = item.findElement(By.className("btn_inventory"));
-                String buttonText = addToCartButton.getText();
-                if (buttonText.equalsIgnoreCase("Add to cart")) {
-                    click(addToCartButton);
-                }
-                break;
-            }
-        }
+        clickProductButton(itemName, false);
+    }
+
+    // Add several products in one round trip, whatever the catalogue size
+    public void addItemsToCart(String... itemNames) {
+        clickProductButtons(itemNames, false);
     }
 
     public void addFirstItemToCart() {
@@ -135,10 +176,9 @@ public class ProductsPage extends BasePage {
     public void removeItemFromCart(int index) {
         if (index < productItems.size()) {
             WebElement item = productItems.get(index);
-            try {
-                WebElement removeButton = item.findElement(By.xpath(".//button[contains(text(), 'Remove')]"));
-                click(removeButton);
-            } catch (Exception e) {
+            if (countElements(item, REMOVE_BUTTON) > 0) {
+                click(item.findElement(REMOVE_BUTTON));
+            } else {
                 // Item might not be in cart
                 System.out.println("Item at index " + index + " is not in cart");
             }
@@ -146,20 +186,15 @@ public class ProductsPage extends BasePage {
     }
 
     public void removeItemFromCart(String itemName) {
-        for (WebElement item : productItems) {
-            WebElement itemNameElement = item.findElement(By.className("inventory_item_name"));
-            if (itemNameElement.getText().equals(itemName)) {
-                try {
-                    WebElement removeButton = item.findElement(By.xpath(".//button[contains(text(), 'Remove')]"));
-                    click(removeButton);
-                } catch (Exception e) {
-                    System.out.println("Item '" + itemName + "' is not in cart");
-                }
-                break;
-            }
+        if (!clickProductButton(itemName, true)) {
+            System.out.println("Item '" + itemName + "' is not in cart");
         }
     }
 
+    public void removeItemsFromCart(String... itemNames) {
+        clickProductButtons(itemNames, true);
+    }
+
     public void logout() {
         click(burgerMenu);
         waitForElementToBeClickable(logoutLink);
@@ -196,4 +231,57 @@ public class ProductsPage extends BasePage {
             return 0;
         }
     }
-}
\ No newline at end of file
+
+    // ========== PRODUCT INDEX ==========
+
+    // Click the product's button if the page shows it in the given cart state; false if it does not
+    private boolean clickProductButton(String itemName, boolean inCart) {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            WebElement button = lookupProduct(itemName);
+            if (button == null) {
+                return false;
+            }
+            String result;
+            try {
+                result = (String) ((JavascriptExecutor) driver).executeScript(CLICK_IF_IN_STATE, button, inCart);
+            } catch (StaleElementReferenceException e) {
+                result = "stale";
+            }
+            if (!"stale".equals(result)) {
+                if ("clicked".equals(result)) {
+                    PerformanceMetrics.increment("products.click.script");
+                    return true;
+                }
+                return false;
+            }
+            // The list was re-rendered since the index was built
+            productIndex = null;
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void clickProductButtons(String[] itemNames, boolean inCart) {
+        Map<String, Object> result = (Map<String, Object>) ((JavascriptExecutor) driver)
+                .executeScript(CLICK_BY_NAME, List.of(itemNames), inCart);
+        PerformanceMetrics.add("products.click.script", ((Number) result.get("clicked")).longValue());
+        List<String> missing = (List<String>) result.get("missing");
+        if (!missing.isEmpty()) {
+            System.out.println("⚠️ Products not found: " + missing);
+        }
+    }
+
+    // A name the index has not seen triggers a rebuild, which costs one round trip
+    @SuppressWarnings("unchecked")
+    private WebElement lookupProduct(String itemName) {
+        if (productIndex == null || !productIndex.containsKey(itemName)) {
+            List<Map<String, Object>> rows = (List<Map<String, Object>>) ((JavascriptExecutor) driver)
+                    .executeScript(INDEX_PRODUCTS);
+            productIndex = new HashMap<>();
+            for (Map<String, Object> row : rows) {
+                productIndex.put((String) row.get("name"), (WebElement) row.get("button"));
+            }
+        }
+        return productIndex.get(itemName);
+    }
+}
@@ -0,0 +1,222 @@
+package com.saucedemo.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.remote.SessionId;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Turns off CSS transitions, animations and smooth scrolling in every page the tests load,
+ * so elements such as the burger menu are clickable as soon as they render.
+ *
+ * Chrome and Edge get the stylesheet through CDP Page.addScriptToEvaluateOnNewDocument,
+ * registered once per session, so every new document starts without animations. Other
+ * drivers are wrapped in an EventFiringDecorator that re-injects it after each get,
+ * navigate, back, forward and refresh.
+ *
+ * Test durations are recorded per mode; at suite end the run is appended to
+ * test-output/metrics/animations.csv and compared with the last run in the other mode.
+ *
+ * Configuration (system properties):
+ *   disable.animations - "true" injects the stylesheet (default: false)
+ */
+public class Animations {
+
+    private static final boolean ENABLED = Boolean.getBoolean("disable.animations");
+    private static final String CSV_PATH = "test-output/metrics/animations.csv";
+
+    // Idempotent: safe to run on a document that already has the stylesheet
+    private static final String DISABLE_SCRIPT =
+            "(function() {"
+            + "  var inject = function() {"
+            + "    if (document.getElementById('saucedemo-no-animations')) { return; }"
+            + "    var style = document.createElement('style');"
+            + "    style.id = 'saucedemo-no-animations';"
+            + "    style.textContent = '*, *::before, *::after {"
+            + " transition-duration: 0s !important; transition-delay: 0s !important;"
+            + " animation-duration: 0s !important; animation-delay: 0s !important;"
+            + " animation-iteration-count: 1 !important; scroll-behavior: auto !important; }';"
+            + "    (document.head || document.documentElement).appendChild(style);"
+            + "  };"
+            + "  if (document.documentElement) { inject(); }"
+            + "  else { document.addEventListener('DOMContentLoaded', inject); }"
+            + "})();";
+
+    private static final Set<SessionId> registeredSessions = Collections.synchronizedSet(
+            Collections.newSetFromMap(new WeakHashMap<>()));
+    private static final Map<WebDriver, WebDriver> originals = new IdentityHashMap<>();
+
+    private Animations() {}
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    public static String mode() {
+        return ENABLED ? "off" : "on";
+    }
+
+    // Applies the stylesheet to the session; returns the driver tests should use
+    public static WebDriver apply(WebDriver driver) {
+        if (!ENABLED) {
+            return driver;
+        }
+
+        if (driver instanceof HasCdp && driver instanceof RemoteWebDriver) {
+            // Pooled sessions keep the registration, so only new sessions need it
+            if (registeredSessions.add(((RemoteWebDriver) driver).getSessionId())) {
+                ((HasCdp) driver).executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                        Map.of("source", DISABLE_SCRIPT));
+                PerformanceMetrics.increment("animations.cdp.registered");
+            }
+            inject(driver);
+            return driver;
+        }
+
+        WebDriver decorated = new EventFiringDecorator<>(new Reinjector(driver)).decorate(driver);
+        synchronized (originals) {
+            originals.put(decorated, driver);
+        }
+        inject(driver);
+        return decorated;
+    }
+
+    // The driver apply() was given
+    public static WebDriver unwrap(WebDriver driver) {
+        synchronized (originals) {
+            WebDriver original = originals.get(driver);
+            return original == null ? driver : original;
+        }
+    }
+
+    public static void forget(WebDriver decorated) {
+        synchronized (originals) {
+            originals.remove(decorated);
+        }
+    }
+
+    // The document already loaded when the session was handed out
+    private static void inject(WebDriver driver) {
+        try {
+            ((JavascriptExecutor) driver).executeScript(DISABLE_SCRIPT);
+            PerformanceMetrics.increment("animations.injected");
+        } catch (Exception e) {
+            System.out.println("⚠️ Could not disable animations: " + e.getMessage());
+        }
+    }
+
+    // ========== FALLBACK: RE-INJECT AFTER NAVIGATION ==========
+
+    public static class Reinjector implements WebDriverListener {
+        private final WebDriver driver;
+
+        private Reinjector(WebDriver driver) {
+            this.driver = driver;
+        }
+
+        @Override
+        public void afterGet(WebDriver decorated, String url) {
+            inject(driver);
+        }
+
+        @Override
+        public void afterTo(WebDriver.Navigation navigation, String url) {
+            inject(driver);
+        }
+
+        @Override
+        public void afterBack(WebDriver.Navigation navigation) {
+            inject(driver);
+        }
+
+        @Override
+        public void afterForward(WebDriver.Navigation navigation) {
+            inject(driver);
+        }
+
+        @Override
+        public void afterRefresh(WebDriver.Navigation navigation) {
+            inject(driver);
+        }
+    }
+
+    // ========== TIMING COMPARISON ==========
+
+    public static void recordTest(long millis) {
+        PerformanceMetrics.recordTime("test.duration.animations." + mode(), millis);
+    }
+
+    public static void printSummary() {
+        String name = "test.duration.animations." + mode();
+        long tests = PerformanceMetrics.getTimerCount(name);
+        if (tests == 0) {
+            return;
+        }
+        long average = PerformanceMetrics.getTotalTime(name) / tests;
+        String[] previous = lastRun(ENABLED ? "on" : "off");
+        appendRun(tests, average);
+
+        System.out.println("\n🎞️ ================================");
+        System.out.println("🎞️ ANIMATIONS " + mode().toUpperCase() + ": " + tests + " tests, avg " + average + "ms");
+        if (previous != null) {
+            long other = Long.parseLong(previous[3]);
+            System.out.printf("🎞️ Last run with animations %s (%s): avg %dms (%+d%%)%n",
+                    previous[1], previous[0], other, other == 0 ? 0 : (average - other) * 100 / other);
+        } else {
+            System.out.println("🎞️ Run again with -Ddisable.animations=" + !ENABLED + " to compare");
+        }
+        System.out.println("🎞️ ================================\n");
+    }
+
+    // Most recent CSV row for the given mode: [timestamp, mode, tests, avg_ms]
+    private static String[] lastRun(String mode) {
+        File csv = new File(CSV_PATH);
+        if (!csv.exists()) {
+            return null;
+        }
+        String[] last = null;
+        try (BufferedReader in = new BufferedReader(new FileReader(csv, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                String[] row = line.split(",");
+                if (row.length == 4 && row[1].equals(mode)) {
+                    last = row;
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not read " + CSV_PATH + ": " + e.getMessage());
+        }
+        return last;
+    }
+
+    private static void appendRun(long tests, long average) {
+        File csv = new File(CSV_PATH);
+        csv.getParentFile().mkdirs();
+        boolean header = !csv.exists();
+        try (PrintWriter out = new PrintWriter(new FileWriter(csv, StandardCharsets.UTF_8, true))) {
+            if (header) {
+                out.println("timestamp,animations,tests,avg_ms");
+            }
+            out.printf("%s,%s,%d,%d%n", LocalDateTime.now().withNano(0), mode(), tests, average);
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not write " + CSV_PATH + ": " + e.getMessage());
+        }
+    }
+}
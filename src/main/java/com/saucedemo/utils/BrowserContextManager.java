@@ -0,0 +1,270 @@
+package com.saucedemo.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.bidi.Command;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.support.decorators.Decorated;
+import org.openqa.selenium.support.decorators.WebDriverDecorator;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs several isolated browser contexts inside one browser process and hands each
+ * one to a test as its own WebDriver view.
+ *
+ * Chromium (Chrome, Edge) uses CDP browser contexts; Firefox uses WebDriver BiDi user
+ * contexts. Each context has its own cookies and storage, so tests cannot see each
+ * other's state, but they share the process's memory footprint. WebDriver executes one
+ * command per session at a time, so commands from views on the same host are serialized
+ * and the view's window is switched in before each command. Host sessions therefore run
+ * with no implicit wait: a findElement that misses returns at once instead of holding the
+ * host for 10 seconds, and explicit waits release the host between polls.
+ *
+ * Configuration (system properties):
+ *   driver.contexts - contexts per browser process; 0 or 1 disables the mode (default: 0)
+ */
+public class BrowserContextManager {
+
+    private static final int CONTEXTS_PER_BROWSER = Integer.getInteger("driver.contexts", 0);
+
+    private static final Map<String, List<Host>> hosts = new HashMap<>();
+    private static final Map<WebDriver, Context> views = new IdentityHashMap<>();
+
+    private BrowserContextManager() {}
+
+    public static boolean isEnabled() {
+        return CONTEXTS_PER_BROWSER > 1;
+    }
+
+    // Open a fresh isolated context in a browser process that has room for it
+    public static WebDriver lease(String browser) {
+        String key = browser.toLowerCase();
+        if (!"chrome".equals(key) && !"edge".equals(key) && !"firefox".equals(key)) {
+            throw new IllegalArgumentException("Browser contexts are not supported for: " + browser);
+        }
+
+        Host host = reserveHost(key);
+        Context context;
+        try {
+            host.lock.lock();
+            try {
+                context = "firefox".equals(key) ? openUserContext(host) : openCdpContext(host);
+            } finally {
+                host.lock.unlock();
+            }
+        } catch (RuntimeException e) {
+            host.release();
+            throw e;
+        }
+
+        WebDriver view = new ContextDecorator(host, context).decorate(host.driver);
+        synchronized (views) {
+            views.put(view, context);
+        }
+        PerformanceMetrics.increment("contexts.opened." + key);
+        return view;
+    }
+
+    // Whether this driver is a context view handed out by this manager
+    public static boolean owns(WebDriver driver) {
+        synchronized (views) {
+            return views.containsKey(driver);
+        }
+    }
+
+    // Dispose the view's context, dropping its cookies, storage and windows
+    public static void release(WebDriver view) {
+        Context context;
+        synchronized (views) {
+            context = views.remove(view);
+        }
+        if (context == null) {
+            return;
+        }
+
+        Host host = context.host;
+        host.lock.lock();
+        try {
+            host.driver.switchTo().window(host.homeHandle);
+            host.currentHandle = host.homeHandle;
+            if ("firefox".equals(host.browser)) {
+                ((HasBiDi) host.driver).getBiDi().send(new Command<>("browser.removeUserContext",
+                        Map.of("userContext", context.contextId)));
+            } else {
+                ((HasCdp) host.driver).executeCdpCommand("Target.disposeBrowserContext",
+                        Map.of("browserContextId", context.contextId));
+            }
+        } catch (Exception e) {
+            System.out.println("⚠️ Failed to dispose browser context: " + e.getMessage());
+        } finally {
+            host.lock.unlock();
+            host.release();
+        }
+    }
+
+    public static void shutdown() {
+        List<Host> all = new ArrayList<>();
+        synchronized (hosts) {
+            hosts.values().forEach(all::addAll);
+            hosts.clear();
+        }
+        for (Host host : all) {
+            DriverManager.closeSession(host.driver);
+        }
+    }
+
+    // ========== CONTEXT CREATION ==========
+
+    private static Context openCdpContext(Host host) {
+        HasCdp cdp = (HasCdp) host.driver;
+        String contextId = (String) cdp.executeCdpCommand("Target.createBrowserContext",
+                Map.of("disposeOnDetach", false)).get("browserContextId");
+        String targetId = (String) cdp.executeCdpCommand("Target.createTarget",
+                Map.of("url", "about:blank", "browserContextId", contextId, "newWindow", true)).get("targetId");
+        return new Context(host, contextId, windowHandleFor(host, targetId));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Context openUserContext(Host host) {
+        HasBiDi bidi = (HasBiDi) host.driver;
+        Map<String, Object> userContext = bidi.getBiDi().send(
+                new Command<>("browser.createUserContext", Map.of(), Map.class));
+        String contextId = (String) userContext.get("userContext");
+        Map<String, Object> browsingContext = bidi.getBiDi().send(new Command<>("browsingContext.create",
+                Map.of("type", "window", "userContext", contextId), Map.class));
+        // In Firefox the BiDi browsing context id is also the classic window handle
+        return new Context(host, contextId, (String) browsingContext.get("context"));
+    }
+
+    // chromedriver derives window handles from CDP target ids
+    private static String windowHandleFor(Host host, String targetId) {
+        for (String handle : host.driver.getWindowHandles()) {
+            if (handle.endsWith(targetId)) {
+                return handle;
+            }
+        }
+        throw new IllegalStateException("No window handle for new browser context target " + targetId);
+    }
+
+    // ========== HOSTS ==========
+
+    private static Host reserveHost(String browser) {
+        synchronized (hosts) {
+            List<Host> browserHosts = hosts.computeIfAbsent(browser, k -> new ArrayList<>());
+            for (Host host : browserHosts) {
+                if (host.activeContexts < CONTEXTS_PER_BROWSER) {
+                    host.activeContexts++;
+                    return host;
+                }
+            }
+        }
+
+        // Boot outside the lock; other tests can keep using existing hosts meanwhile
+        WebDriver driver = DriverManager.createDriver(browser);
+        // Timeouts are per session, so this covers every context on the host
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        Host host = new Host(browser, driver);
+        host.activeContexts++;
+        synchronized (hosts) {
+            hosts.get(browser).add(host);
+        }
+        PerformanceMetrics.increment("contexts.hosts.started." + browser);
+        return host;
+    }
+
+    private static final class Host {
+        private final String browser;
+        private final WebDriver driver;
+        private final String homeHandle;
+        private final ReentrantLock lock = new ReentrantLock();
+        private String currentHandle;
+        private int activeContexts; // guarded by hosts
+
+        private Host(String browser, WebDriver driver) {
+            this.browser = browser;
+            this.driver = driver;
+            this.homeHandle = driver.getWindowHandle();
+            this.currentHandle = homeHandle;
+        }
+
+        private void activate(String handle) {
+            if (!handle.equals(currentHandle)) {
+                driver.switchTo().window(handle);
+                currentHandle = handle;
+            }
+        }
+
+        private void release() {
+            synchronized (hosts) {
+                activeContexts--;
+            }
+        }
+    }
+
+    private static final class Context {
+        private final Host host;
+        private final String contextId;
+        private volatile String windowHandle;
+
+        private Context(Host host, String contextId, String windowHandle) {
+            this.host = host;
+            this.contextId = contextId;
+            this.windowHandle = windowHandle;
+        }
+    }
+
+    // Switches the host session to this context's window around every command
+    private static final class ContextDecorator extends WebDriverDecorator<WebDriver> {
+        private final Host host;
+        private final Context context;
+
+        private ContextDecorator(Host host, Context context) {
+            this.host = host;
+            this.context = context;
+        }
+
+        @Override
+        public Object call(Decorated<?> target, Method method, Object[] args) throws Throwable {
+            // quit() on a view must only end its context, never the shared browser
+            if (target.getOriginal() == host.driver && "quit".equals(method.getName())) {
+                WebDriver view = findView();
+                if (view != null) {
+                    release(view);
+                }
+                return null;
+            }
+
+            host.lock.lock();
+            try {
+                host.activate(context.windowHandle);
+                Object result = super.call(target, method, args);
+                if (target.getOriginal() instanceof WebDriver.TargetLocator && "window".equals(method.getName())) {
+                    context.windowHandle = (String) args[0];
+                    host.currentHandle = context.windowHandle;
+                }
+                return result;
+            } finally {
+                host.lock.unlock();
+            }
+        }
+
+        private WebDriver findView() {
+            synchronized (views) {
+                for (Map.Entry<WebDriver, Context> entry : views.entrySet()) {
+                    if (entry.getValue() == context) {
+                        return entry.getKey();
+                    }
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.saucedemo.utils;
+
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+
+/**
+ * Named capability profiles, selected per run with -Dbrowser.profile=NAME.
+ *
+ * Every profile launches with a fixed window size (no maximize round trips) and only
+ * the flags that matter for it:
+ *   headed-visual              - visible browser for demos and debugging (default)
+ *   headless-fast              - new headless mode without background services
+ *   headless-minimal-rendering - headless-fast plus no images and fewer rendering features
+ */
+public enum BrowserProfile {
+
+    HEADED_VISUAL("headed-visual", false, false, new Dimension(1920, 1080)),
+    HEADLESS_FAST("headless-fast", true, false, new Dimension(1366, 768)),
+    HEADLESS_MINIMAL_RENDERING("headless-minimal-rendering", true, true, new Dimension(1280, 720));
+
+    private static final boolean LINUX = System.getProperty("os.name").toLowerCase().contains("linux");
+
+    private final String profileName;
+    private final boolean headless;
+    private final boolean minimalRendering;
+    private final Dimension windowSize;
+
+    BrowserProfile(String profileName, boolean headless, boolean minimalRendering, Dimension windowSize) {
+        this.profileName = profileName;
+        this.headless = headless;
+        this.minimalRendering = minimalRendering;
+        this.windowSize = windowSize;
+    }
+
+    // Profile selected for this run
+    public static BrowserProfile current() {
+        String requested = System.getProperty("browser.profile", HEADED_VISUAL.profileName);
+        for (BrowserProfile profile : values()) {
+            if (profile.profileName.equalsIgnoreCase(requested)) {
+                return profile;
+            }
+        }
+        System.out.println("⚠️ Unknown browser profile: " + requested + ". Using " + HEADED_VISUAL.profileName + ".");
+        return HEADED_VISUAL;
+    }
+
+    public String getProfileName() {
+        return profileName;
+    }
+
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    public Dimension getWindowSize() {
+        return windowSize;
+    }
+
+    // Chrome and Edge
+    public void applyTo(ChromiumOptions<?> options) {
+        options.addArguments("--remote-allow-origins=*"); // Critical for Chrome v111+
+        options.addArguments("--window-size=" + windowSize.getWidth() + "," + windowSize.getHeight());
+        options.addArguments("--disable-notifications");
+        if (LINUX) {
+            // Container agents: small /dev/shm and no user namespaces
+            options.addArguments("--disable-dev-shm-usage");
+            options.addArguments("--no-sandbox");
+        }
+
+        if (headless) {
+            options.addArguments("--headless=new");
+            options.addArguments("--disable-extensions");
+            options.addArguments("--no-first-run");
+            options.addArguments("--no-default-browser-check");
+            options.addArguments("--disable-background-networking");
+            options.addArguments("--disable-component-update");
+            options.addArguments("--disable-sync");
+            options.addArguments("--mute-audio");
+        }
+
+        if (minimalRendering) {
+            options.addArguments("--blink-settings=imagesEnabled=false");
+            options.addArguments("--disable-features=Translate,MediaRouter,OptimizationHints");
+            options.addArguments("--force-device-scale-factor=1");
+            options.addArguments("--disable-smooth-scrolling");
+        }
+    }
+
+    public void applyTo(FirefoxOptions options) {
+        options.addArguments("--width=" + windowSize.getWidth());
+        options.addArguments("--height=" + windowSize.getHeight());
+        options.addPreference("dom.webnotifications.enabled", false);
+
+        if (headless) {
+            options.addArguments("-headless");
+            options.addPreference("browser.shell.checkDefaultBrowser", false);
+            options.addPreference("app.update.auto", false);
+            options.addPreference("datareporting.policy.dataSubmissionEnabled", false);
+            options.addPreference("toolkit.telemetry.enabled", false);
+        }
+
+        if (minimalRendering) {
+            options.addPreference("permissions.default.image", 2);
+            options.addPreference("general.smoothScroll", false);
+            options.addPreference("layout.css.devPixelsPerPx", "1.0");
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.saucedemo.utils;
+
+import org.openqa.selenium.WebDriver;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Admission control in front of DriverManager.getDriver.
+ *
+ * Before a test gets a browser, the governor samples available host memory, the load
+ * average per core and the measured resident memory per browser session, and delays the
+ * test until one more session fits under those limits. Sessions admitted but still starting
+ * do not show up in those samples yet, so each one is subtracted from the memory headroom
+ * until it has started. The first session is always admitted so a run can never stall
+ * completely. Every admission decision is appended to test-output/metrics/concurrency.csv
+ * so agents can be tuned from real data.
+ *
+ * Configuration (system properties):
+ *   governor                   - "false" disables admission control (default: true)
+ *   governor.max.sessions      - hard upper bound on concurrent sessions (default: 2 x cores)
+ *   governor.max.load          - load average per core above which no session starts (default: 1.0)
+ *   governor.reserve.mb        - memory kept free for the OS and the JVM (default: 1024)
+ *   governor.session.mb        - per-session estimate until one has been measured (default: 400)
+ *   governor.timeout           - seconds before a waiting test is admitted anyway (default: 300)
+ */
+public class ConcurrencyGovernor {
+
+    private static final boolean ENABLED = !"false".equalsIgnoreCase(System.getProperty("governor", "true"));
+    private static final int CORES = Runtime.getRuntime().availableProcessors();
+    static final int MAX_SESSIONS = Integer.getInteger("governor.max.sessions", CORES * 2);
+    static final double MAX_LOAD_PER_CORE = Double.parseDouble(System.getProperty("governor.max.load", "1.0"));
+    static final long RESERVE_MB = Integer.getInteger("governor.reserve.mb", 1024);
+    private static final long DEFAULT_SESSION_MB = Integer.getInteger("governor.session.mb", 400);
+    private static final long TIMEOUT_MS = Integer.getInteger("governor.timeout", 300) * 1000L;
+    private static final long SAMPLE_INTERVAL_MS = 500;
+
+    private static final String CSV_PATH = "test-output/metrics/concurrency.csv";
+
+    private static final Map<WebDriver, String> admitted = new IdentityHashMap<>();
+    private static int active; // admitted sessions plus those still starting
+    private static int starting; // admitted but not attached yet: not visible in memory or load samples
+    private static final Object exportLock = new Object();
+
+    private ConcurrencyGovernor() {}
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    // Block until the host can take one more browser session
+    public static void acquire(String browser) {
+        if (!ENABLED) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        boolean announced = false;
+
+        while (true) {
+            Sample sample = Sample.take();
+            String row = null;
+            synchronized (ConcurrencyGovernor.class) {
+                int limit = sample.limit(active, starting);
+                boolean timedOut = System.currentTimeMillis() - start > TIMEOUT_MS;
+                if (active == 0 || active < limit || timedOut) {
+                    if (timedOut) {
+                        System.out.println("⚠️ Governor timed out waiting for capacity - starting " + browser + " anyway");
+                    }
+                    active++;
+                    starting++;
+                    row = row("admit", browser, sample, limit);
+                } else if (!announced) {
+                    System.out.println("🚦 Delaying " + browser + " session: " + active + " running, limit " + limit
+                            + " (" + sample.describe() + ")");
+                    announced = true;
+                }
+            }
+            if (row != null) {
+                export(row);
+                break;
+            }
+            try {
+                Thread.sleep(SAMPLE_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for browser capacity", e);
+            }
+        }
+
+        PerformanceMetrics.recordTime("governor.admission.wait", System.currentTimeMillis() - start);
+        PerformanceMetrics.recordSample("governor.active.sessions", activeSessions());
+    }
+
+    // The session started after acquire(); release(driver) gives its slot back
+    public static synchronized void attach(WebDriver driver, String browser) {
+        if (ENABLED) {
+            admitted.put(driver, browser);
+            if (starting > 0) {
+                starting--;
+            }
+        }
+    }
+
+    // A session admitted by acquire() has ended
+    public static void release(WebDriver driver) {
+        String browser;
+        synchronized (ConcurrencyGovernor.class) {
+            browser = admitted.remove(driver);
+        }
+        if (browser != null) {
+            free(browser, false);
+        }
+    }
+
+    // Give back a slot from acquire() whose session never started
+    public static void cancel(String browser) {
+        if (ENABLED) {
+            free(browser, true);
+        }
+    }
+
+    private static void free(String browser, boolean neverStarted) {
+        Sample sample = Sample.take();
+        String row;
+        synchronized (ConcurrencyGovernor.class) {
+            if (active > 0) {
+                active--;
+            }
+            if (neverStarted && starting > 0) {
+                starting--;
+            }
+            row = row("release", browser, sample, sample.limit(active, starting));
+        }
+        export(row);
+    }
+
+    public static synchronized int activeSessions() {
+        return active;
+    }
+
+    // ========== EXPORT ==========
+
+    // Caller holds the class lock, so the row sees a consistent active count
+    private static String row(String event, String browser, Sample sample, int limit) {
+        return String.format("%s,%s,%s,%d,%d,%d,%.2f,%d",
+                new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS").format(new Date()),
+                event, browser, active, limit, sample.availableMb, sample.loadPerCore, sample.sessionMb);
+    }
+
+    // Written outside the class lock so file I/O does not hold up acquire and release
+    private static void export(String row) {
+        synchronized (exportLock) {
+            File csv = new File(CSV_PATH);
+            boolean newFile = !csv.exists();
+            csv.getParentFile().mkdirs();
+
+            try (PrintWriter out = new PrintWriter(new FileWriter(csv, StandardCharsets.UTF_8, true))) {
+                if (newFile) {
+                    out.println("timestamp,event,browser,active,limit,available_mb,load_per_core,session_mb");
+                }
+                out.println(row);
+            } catch (IOException e) {
+                System.out.println("⚠️ Could not write " + CSV_PATH + ": " + e.getMessage());
+            }
+        }
+    }
+
+    // ========== HOST SAMPLING ==========
+
+    // Package-private, with the limits above, for ConcurrencyGovernorTest
+    static final class Sample {
+        private final long availableMb;
+        private final double loadPerCore;
+        private final long sessionMb;
+
+        Sample(long availableMb, double loadPerCore, long sessionMb) {
+            this.availableMb = availableMb;
+            this.loadPerCore = loadPerCore;
+            this.sessionMb = sessionMb;
+        }
+
+        private static Sample take() {
+            OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+            double load = os.getSystemLoadAverage(); // -1 where not supported (Windows)
+            long measuredKb = ProcessReaper.averageSessionResidentKb();
+            return new Sample(availableMemoryMb(os), load < 0 ? 0 : load / CORES,
+                    measuredKb > 0 ? measuredKb / 1024 : DEFAULT_SESSION_MB);
+        }
+
+        // Sessions the host can carry right now, given how many are already running. Sessions
+        // still starting have not used their memory yet, so the sample's headroom is reduced by them.
+        int limit(int running, int starting) {
+            if (loadPerCore > MAX_LOAD_PER_CORE) {
+                return Math.min(running, MAX_SESSIONS);
+            }
+            long headroom = Math.max(0, availableMb - RESERVE_MB) / Math.max(1, sessionMb);
+            return (int) Math.min(MAX_SESSIONS, running + Math.max(0, headroom - starting));
+        }
+
+        private String describe() {
+            return String.format("available=%dMB load/core=%.2f session=%dMB", availableMb, loadPerCore, sessionMb);
+        }
+
+        private static long availableMemoryMb(OperatingSystemMXBean os) {
+            // MemAvailable counts reclaimable page cache, which "free" memory does not
+            try {
+                for (String line : Files.readAllLines(Paths.get("/proc/meminfo"), StandardCharsets.UTF_8)) {
+                    if (line.startsWith("MemAvailable:")) {
+                        return Long.parseLong(line.replaceAll("[^0-9]", "")) / 1024;
+                    }
+                }
+            } catch (IOException | NumberFormatException e) {
+                // Not Linux - fall back to the JVM's view
+            }
+            if (os instanceof com.sun.management.OperatingSystemMXBean) {
+                // getFreeMemorySize() (Java 14+) replaces the deprecated getFreePhysicalMemorySize();
+                // the build targets Java 11, so look both up reflectively
+                for (String getter : new String[]{"getFreeMemorySize", "getFreePhysicalMemorySize"}) {
+                    try {
+                        Method method = com.sun.management.OperatingSystemMXBean.class.getMethod(getter);
+                        return (Long) method.invoke(os) / (1024 * 1024);
+                    } catch (ReflectiveOperationException e) {
+                        // Not on this JDK - try the next one
+                    }
+                }
+            }
+            return Long.MAX_VALUE / (1024 * 1024);
+        }
+    }
+}
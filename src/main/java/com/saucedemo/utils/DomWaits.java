@@ -0,0 +1,160 @@
+package com.saucedemo.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Event-driven waits: a MutationObserver installed in the page re-checks the condition on
+ * every DOM change and the driver blocks in one async script call until it holds, instead
+ * of WebDriverWait's round trip every 500 ms.
+ *
+ * A 100 ms in-page timer also re-checks, for changes no mutation announces (layout,
+ * history.pushState). Long waits are split into calls shorter than the driver's script
+ * timeout, and a call aborted by a page navigation is simply retried until the deadline.
+ *
+ * Configuration (system properties):
+ *   wait.engine - "mutation" uses these waits in BasePage, "polling" keeps WebDriverWait (default: polling)
+ */
+public class DomWaits {
+
+    private static final boolean ENABLED = "mutation".equalsIgnoreCase(System.getProperty("wait.engine", "polling"));
+
+    // Must stay below the script timeout DriverManager configures (10s)
+    private static final long MAX_CALL_MS = 8000;
+
+    // arguments: [timeoutMs, condition args..., callback]; the condition body is spliced in as check()
+    private static final String WATCHER =
+            "var args = Array.prototype.slice.call(arguments);"
+            + "var callback = args.pop(); var timeoutMs = args.shift();"
+            + "var check = function() { try { return !!(%s); } catch (e) { return false; } };"
+            + "if (check()) { callback(true); return; }"
+            + "var finished = false, observer, timer, poll;"
+            + "var done = function(result) {"
+            + "  if (finished) { return; } finished = true;"
+            + "  observer.disconnect(); clearTimeout(timer); clearInterval(poll); callback(result); };"
+            + "observer = new MutationObserver(function() { if (check()) { done(true); } });"
+            + "observer.observe(document, {subtree: true, childList: true, attributes: true, characterData: true});"
+            + "poll = setInterval(function() { if (check()) { done(true); } }, 100);"
+            + "timer = setTimeout(function() { done(check()); }, timeoutMs);";
+
+    private static final String VISIBLE =
+            "args[0].isConnected && args[0].getClientRects().length > 0"
+            + " && getComputedStyle(args[0]).visibility !== 'hidden'";
+    private static final String TEXT = "args[0].innerText.indexOf(args[1]) >= 0";
+    private static final String URL = "location.href.indexOf(args[0]) >= 0";
+    private static final String COUNT =
+            "(args[0] === 'xpath'"
+            + " ? document.evaluate(args[1], document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null).snapshotLength"
+            + " : document.querySelectorAll(args[1]).length) %s args[2]";
+
+    private DomWaits() {}
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    // ========== CONDITIONS (return true like WebDriverWait.until, or throw TimeoutException) ==========
+
+    public static boolean visibilityOf(WebDriver driver, WebElement element, Duration timeout) {
+        return await(driver, "visibility", VISIBLE, timeout, element);
+    }
+
+    public static boolean textToBePresentIn(WebDriver driver, WebElement element, String text, Duration timeout) {
+        return await(driver, "text", TEXT, timeout, element, text);
+    }
+
+    public static boolean urlContains(WebDriver driver, String fragment, Duration timeout) {
+        return await(driver, "url", URL, timeout, fragment);
+    }
+
+    public static boolean numberOfElementsToBe(WebDriver driver, By locator, int count, Duration timeout) {
+        Map<String, Object> parameters = countLocator(locator);
+        return await(driver, "count", String.format(COUNT, "==="), timeout, parameters.get("using"), parameters.get("value"), count);
+    }
+
+    public static boolean numberOfElementsToBeMoreThan(WebDriver driver, By locator, int count, Duration timeout) {
+        Map<String, Object> parameters = countLocator(locator);
+        return await(driver, "count", String.format(COUNT, ">"), timeout, parameters.get("using"), parameters.get("value"), count);
+    }
+
+    // ========== ENGINE ==========
+
+    private static boolean await(WebDriver driver, String kind, String condition, Duration timeout, Object... args) {
+        String script = String.format(WATCHER, condition);
+        long start = System.currentTimeMillis();
+        long deadline = start + timeout.toMillis();
+
+        try {
+            while (true) {
+                long remaining = deadline - System.currentTimeMillis();
+                Object[] callArgs = new Object[args.length + 1];
+                callArgs[0] = Math.max(0, Math.min(remaining, MAX_CALL_MS));
+                System.arraycopy(args, 0, callArgs, 1, args.length);
+
+                PerformanceMetrics.increment("wait.mutation.calls");
+                try {
+                    if (Boolean.TRUE.equals(((JavascriptExecutor) driver).executeAsyncScript(script, callArgs))) {
+                        return true;
+                    }
+                } catch (ScriptTimeoutException e) {
+                    // Script timeout lower than expected - fall through and try again
+                } catch (WebDriverException e) {
+                    // A navigation unloads the watcher; the condition may hold on the new page
+                    if (!isUnload(e)) {
+                        throw e;
+                    }
+                }
+
+                if (System.currentTimeMillis() >= deadline) {
+                    throw new TimeoutException("Expected " + kind + " condition did not hold within " + timeout.getSeconds() + "s");
+                }
+            }
+        } finally {
+            PerformanceMetrics.recordTime("wait.mutation." + kind, System.currentTimeMillis() - start);
+        }
+    }
+
+    private static Map<String, Object> countLocator(By locator) {
+        Map<String, Object> parameters = w3cLocator(locator);
+        if (!"css selector".equals(parameters.get("using")) && !"xpath".equals(parameters.get("using"))) {
+            throw new IllegalArgumentException("Count waits need a CSS or XPath locator: " + locator);
+        }
+        return parameters;
+    }
+
+    private static boolean isUnload(WebDriverException e) {
+        String message = String.valueOf(e.getMessage()).toLowerCase();
+        return message.contains("unload") || message.contains("navigat") || message.contains("document was");
+    }
+
+    // W3C using/value pair, with the locators W3C drivers lack rewritten as CSS
+    public static Map<String, Object> w3cLocator(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            throw new IllegalArgumentException("Locator cannot be sent to the driver: " + locator);
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        String using = parameters.using();
+        String value = String.valueOf(parameters.value());
+
+        switch (using) {
+            case "id":
+                return Map.of("using", "css selector", "value", "[id=\"" + value + "\"]");
+            case "name":
+                return Map.of("using", "css selector", "value", "[name=\"" + value + "\"]");
+            case "class name":
+                return Map.of("using", "css selector", "value", "." + value);
+            case "tag name":
+                return Map.of("using", "css selector", "value", value);
+            default:
+                return Map.of("using", using, "value", value);
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.saucedemo.utils;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves driver binaries (chromedriver, geckodriver, msedgedriver) once per JVM.
+ *
+ * Binaries are kept in a local cache keyed by browser and installed browser version,
+ * each with a SHA-256 sidecar that is verified before use. A cache hit needs no network;
+ * a miss downloads through WebDriverManager unless -Ddriver.offline=true is set. When the
+ * browser version cannot be detected nothing is cached; WebDriverManager resolves the driver.
+ * When nothing can be resolved, null is returned and Selenium Manager takes over.
+ *
+ * Configuration (system properties):
+ *   driver.cache.dir - cache location (default: ~/.cache/saucedemo/drivers)
+ *   driver.offline   - "true" never touches the network (default: false)
+ */
+public class DriverBinaryResolver {
+
+    private static final Path CACHE_DIR = Paths.get(System.getProperty("driver.cache.dir",
+            System.getProperty("user.home") + File.separator + ".cache" + File.separator + "saucedemo" + File.separator + "drivers"));
+    private static final boolean OFFLINE = Boolean.getBoolean("driver.offline");
+    private static final boolean WINDOWS = System.getProperty("os.name").toLowerCase().contains("win");
+    private static final boolean MAC = System.getProperty("os.name").toLowerCase().contains("mac");
+    private static final Pattern VERSION_PATTERN = Pattern.compile("(\\d+(\\.\\d+)+)");
+
+    // browser -> resolved driver path (Optional.empty() when Selenium Manager should decide)
+    private static final Map<String, Optional<String>> resolved = new ConcurrentHashMap<>();
+
+    private DriverBinaryResolver() {}
+
+    // Resolved driver path for the browser, or null to let Selenium Manager locate it
+    public static String resolve(String browser) {
+        return resolved.computeIfAbsent(browser.toLowerCase(), DriverBinaryResolver::timedResolve).orElse(null);
+    }
+
+    private static Optional<String> timedResolve(String browser) {
+        long start = System.currentTimeMillis();
+        Optional<String> path = Optional.ofNullable(doResolve(browser));
+        long elapsed = System.currentTimeMillis() - start;
+
+        PerformanceMetrics.recordTime("driver.resolve." + browser, elapsed);
+        System.out.println("🔎 Driver for " + browser + " resolved in " + elapsed + "ms: "
+                + path.orElse("(Selenium Manager)"));
+
+        // Selenium reads these properties when it builds the driver service
+        path.ifPresent(p -> System.setProperty(driverProperty(browser), p));
+        return path;
+    }
+
+    private static String doResolve(String browser) {
+        String property = driverProperty(browser);
+        if (property == null) {
+            return null;
+        }
+
+        // 1. Explicit override always wins
+        String explicit = System.getProperty(property);
+        if (explicit != null && new File(explicit).canExecute()) {
+            return explicit;
+        }
+
+        // 2. Local checksum-verified cache for the installed browser version
+        String browserVersion = detectBrowserVersion(browser);
+        boolean versionKnown = !"unknown".equals(browserVersion);
+        Path cached = CACHE_DIR.resolve(browser).resolve(browserVersion).resolve(driverFileName(browser));
+        if (versionKnown && isValid(cached)) {
+            PerformanceMetrics.increment("driver.resolve.cache.hit");
+            return cached.toString();
+        }
+        PerformanceMetrics.increment("driver.resolve.cache.miss");
+
+        // 3. Download once and store in the cache
+        if (OFFLINE) {
+            System.out.println("⚠️ No cached " + browser + " driver for version " + browserVersion + " (offline mode)");
+            return null;
+        }
+        try {
+            WebDriverManager wdm = webDriverManager(browser);
+            if (!versionKnown) {
+                // Without a version key a cached driver would outlive the next browser update,
+                // so use WebDriverManager's own version-aware resolution every run instead
+                wdm.setup();
+                return wdm.getDownloadedDriverPath();
+            }
+            wdm.browserVersion(browserVersion.split("\\.")[0]);
+            wdm.setup();
+            return store(Paths.get(wdm.getDownloadedDriverPath()), cached);
+        } catch (Exception e) {
+            System.out.println("⚠️ Could not download " + browser + " driver: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // ========== CACHE ==========
+
+    private static boolean isValid(Path binary) {
+        Path checksumFile = checksumFile(binary);
+        if (!Files.isRegularFile(binary) || !Files.isRegularFile(checksumFile)) {
+            return false;
+        }
+        try {
+            String expected = new String(Files.readAllBytes(checksumFile), StandardCharsets.UTF_8).trim();
+            if (expected.equals(sha256(binary))) {
+                return true;
+            }
+            System.out.println("⚠️ Checksum mismatch for cached driver, discarding: " + binary);
+            Files.deleteIfExists(binary);
+            Files.deleteIfExists(checksumFile);
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not verify cached driver " + binary + ": " + e.getMessage());
+        }
+        return false;
+    }
+
+    private static String store(Path source, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), "driver", ".tmp");
+        Files.copy(source, temp, StandardCopyOption.REPLACE_EXISTING);
+        temp.toFile().setExecutable(true);
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.write(checksumFile(target), sha256(target).getBytes(StandardCharsets.UTF_8));
+        System.out.println("💾 Cached driver: " + target);
+        return target.toString();
+    }
+
+    private static Path checksumFile(Path binary) {
+        return binary.resolveSibling(binary.getFileName() + ".sha256");
+    }
+
+    private static String sha256(Path file) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(Files.readAllBytes(file));
+            StringBuilder hex = new StringBuilder();
+            for (byte b : hash) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // ========== BROWSER DETECTION ==========
+
+    // Installed browser version from the local machine only - never from the network
+    private static String detectBrowserVersion(String browser) {
+        for (List<String> command : versionCommands(browser)) {
+            String output = run(command);
+            Matcher matcher = VERSION_PATTERN.matcher(output);
+            if (matcher.find()) {
+                return matcher.group(1);
+            }
+        }
+        return "unknown";
+    }
+
+    private static List<List<String>> versionCommands(String browser) {
+        if (WINDOWS) {
+            switch (browser) {
+                case "chrome":
+                    return Collections.singletonList(Arrays.asList("reg", "query",
+                            "HKCU\\Software\\Google\\Chrome\\BLBeacon", "/v", "version"));
+                case "edge":
+                    return Collections.singletonList(Arrays.asList("reg", "query",
+                            "HKCU\\Software\\Microsoft\\Edge\\BLBeacon", "/v", "version"));
+                case "firefox":
+                    return Collections.singletonList(Arrays.asList("reg", "query",
+                            "HKLM\\Software\\Mozilla\\Mozilla Firefox", "/v", "CurrentVersion"));
+                default:
+                    return Collections.emptyList();
+            }
+        }
+        if (MAC) {
+            switch (browser) {
+                case "chrome":
+                    return Collections.singletonList(Arrays.asList(
+                            "/Applications/Google Chrome.app/Contents/MacOS/Google Chrome", "--version"));
+                case "edge":
+                    return Collections.singletonList(Arrays.asList(
+                            "/Applications/Microsoft Edge.app/Contents/MacOS/Microsoft Edge", "--version"));
+                case "firefox":
+                    return Collections.singletonList(Arrays.asList(
+                            "/Applications/Firefox.app/Contents/MacOS/firefox", "--version"));
+                default:
+                    return Collections.emptyList();
+            }
+        }
+        switch (browser) {
+            case "chrome":
+                return Arrays.asList(
+                        Arrays.asList("google-chrome", "--version"),
+                        Arrays.asList("chromium", "--version"),
+                        Arrays.asList("chromium-browser", "--version"));
+            case "edge":
+                return Collections.singletonList(Arrays.asList("microsoft-edge", "--version"));
+            case "firefox":
+                return Collections.singletonList(Arrays.asList("firefox", "--version"));
+            default:
+                return Collections.emptyList();
+        }
+    }
+
+    // Output goes to a file rather than a pipe, so a browser that hangs cannot block the read
+    // past the timeout
+    private static String run(List<String> command) {
+        Path output = null;
+        try {
+            output = Files.createTempFile("browser-version", ".txt");
+            Process process = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(output.toFile())
+                    .start();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                return "";
+            }
+            return new String(Files.readAllBytes(output), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            return "";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "";
+        } finally {
+            if (output != null) {
+                try {
+                    Files.deleteIfExists(output);
+                } catch (IOException e) {
+                    // Left in the temp directory
+                }
+            }
+        }
+    }
+
+    // ========== BROWSER MAPPINGS ==========
+
+    private static String driverProperty(String browser) {
+        switch (browser) {
+            case "chrome": return "webdriver.chrome.driver";
+            case "firefox": return "webdriver.gecko.driver";
+            case "edge": return "webdriver.edge.driver";
+            default: return null;
+        }
+    }
+
+    private static String driverFileName(String browser) {
+        String name;
+        switch (browser) {
+            case "chrome": name = "chromedriver"; break;
+            case "firefox": name = "geckodriver"; break;
+            default: name = "msedgedriver";
+        }
+        return WINDOWS ? name + ".exe" : name;
+    }
+
+    private static WebDriverManager webDriverManager(String browser) {
+        switch (browser) {
+            case "chrome": return WebDriverManager.chromedriver();
+            case "firefox": return WebDriverManager.firefoxdriver();
+            default: return WebDriverManager.edgedriver();
+        }
+    }
+}
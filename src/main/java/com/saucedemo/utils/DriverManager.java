@@ -1,5 +1,7 @@
 package com.saucedemo.utils;
 
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
@@ -10,29 +12,62 @@ import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.safari.SafariDriver;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.remote.RemoteWebDriver;
 
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.text.SimpleDateFormat;
 import java.time.Duration;
-import java.util.Arrays;
 import java.util.Date;
-import java.util.Map;
 
 public class DriverManager {
 
     private static ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
 
+    // -Dhub.url=http://localhost:4444 leases browsers from a shared SessionHub instead of starting them here
+    private static final String HUB_URL = System.getProperty("hub.url");
+
+    static {
+        // Clean up browsers a killed JVM left behind, and tear everything down in order on exit
+        ProcessReaper.reapPreviousRuns();
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverManager::shutdown, "driver-manager-shutdown"));
+    }
+
     // Get driver for the current thread (with browser parameter)
     public static WebDriver getDriver(String browser) {
         WebDriver driver = driverThreadLocal.get();
 
         if (driver == null) {
-            driver = createDriver(browser);
+            // Pooled browsers hold a governor slot for their whole life (see DriverPool), not per test
+            boolean pooled = HUB_URL == null && !BrowserContextManager.isEnabled() && DriverPool.isEnabled();
+            if (!pooled) {
+                // Waits here while the host has no room for another browser
+                ConcurrencyGovernor.acquire(browser);
+            }
+            try {
+                if (HUB_URL != null) {
+                    driver = startHubSession(browser);
+                } else if (BrowserContextManager.isEnabled()) {
+                    driver = BrowserContextManager.lease(browser);
+                } else {
+                    driver = pooled ? DriverPool.lease(browser) : createDriver(browser);
+                }
+            } catch (RuntimeException e) {
+                if (!pooled) {
+                    ConcurrencyGovernor.cancel(browser);
+                }
+                throw e;
+            }
+            if (!pooled) {
+                ConcurrencyGovernor.attach(driver, browser);
+            }
+            ProcessReaper.assignOwner(driver, Thread.currentThread());
+            // Tests get the wrapped driver; bookkeeping above stays keyed by the real session
+            driver = ImplicitWaitProfiler.decorate(Animations.apply(driver));
             driverThreadLocal.set(driver);
         }
         return driver;
@@ -43,51 +78,84 @@ public class DriverManager {
         return driverThreadLocal.get();
     }
 
-    // Create new driver based on browser type
-    private static WebDriver createDriver(String browser) {
+    // Create new driver based on browser type (not bound to any thread)
+    static WebDriver createDriver(String browser) {
+        long start = System.currentTimeMillis();
         WebDriver driver;
 
         switch (browser.toLowerCase()) {
             case "chrome":
-                driver = getChromeDriver();
+                driver = startChromeDriver();
                 break;
             case "firefox":
-                driver = getFirefoxDriver();
+                driver = startFirefoxDriver();
                 break;
             case "edge":
-                driver = getEdgeDriver();
+                driver = startEdgeDriver();
                 break;
             case "safari":
-                driver = getSafariDriver();
+                driver = startSafariDriver();
                 break;
             default:
                 System.out.println("⚠️ Unknown browser: " + browser + ". Defaulting to Chrome.");
-                driver = getChromeDriver();
+                driver = startChromeDriver();
         }
 
-        configureDriver(driver);
+        String serviceMode = DriverServices.isEnabled() ? ".shared-service" : ".own-service";
+        PerformanceMetrics.recordTime("driver.startup." + browser.toLowerCase() + "."
+                + BrowserProfile.current().getProfileName() + serviceMode, System.currentTimeMillis() - start);
+        PerformanceMetrics.recordSample("processes.descendants", ProcessHandle.current().descendants().count());
+        ProcessReaper.register(driver);
         return driver;
     }
 
+    // Session leased from the local SessionHub; quitting it returns the browser to the hub's pool
+    private static WebDriver startHubSession(String browser) {
+        long start = System.currentTimeMillis();
+        Capabilities options;
+        switch (browser.toLowerCase()) {
+            case "firefox":
+                options = new FirefoxOptions();
+                break;
+            case "edge":
+                options = new EdgeOptions();
+                break;
+            default:
+                options = new ChromeOptions();
+        }
+
+        try {
+            WebDriver driver = new RemoteWebDriver(new URL(HUB_URL), options);
+            configureDriver(driver);
+            PerformanceMetrics.recordTime("driver.startup." + browser.toLowerCase() + ".hub", System.currentTimeMillis() - start);
+            System.out.println("✅ Leased " + browser + " session from hub " + HUB_URL);
+            return driver;
+        } catch (MalformedURLException e) {
+            throw new RuntimeException("Invalid hub.url: " + HUB_URL, e);
+        }
+    }
+
     // ========== INDIVIDUAL BROWSER METHODS ==========
 
     // Initialize Chrome driver WITH OPTIONS
     public static WebDriver getChromeDriver() {
+        WebDriver driver = startChromeDriver();
+        setDriver(driver);
+        return driver;
+    }
+
+    private static WebDriver startChromeDriver() {
         try {
             System.out.println("🔄 Setting up ChromeDriver...");
-            WebDriverManager.chromedriver().setup();
+            DriverBinaryResolver.resolve("chrome");
 
-            // IMPORTANT: Add ChromeOptions for newer Chrome versions
+            // Flags and window size come from the selected capability profile
             ChromeOptions options = new ChromeOptions();
-            options.addArguments("--remote-allow-origins=*"); // Critical for Chrome v111+
-            options.addArguments("--start-maximized");
-            options.addArguments("--disable-notifications");
-            options.addArguments("--disable-dev-shm-usage");
-            options.addArguments("--no-sandbox");
-            options.addArguments("--disable-gpu");
-
-            ChromeDriver driver = new ChromeDriver(options);
-            setDriver(driver);
+            BrowserProfile.current().applyTo(options);
+
+            WebDriver driver = DriverServices.isEnabled()
+                    ? DriverServices.newSession("chrome", options)
+                    : new ChromeDriver(options);
             configureDriver(driver);
             System.out.println("✅ ChromeDriver initialized successfully!");
             return driver;
@@ -100,15 +168,26 @@ public class DriverManager {
 
     // Initialize Firefox driver
     public static WebDriver getFirefoxDriver() {
+        WebDriver driver = startFirefoxDriver();
+        setDriver(driver);
+        return driver;
+    }
+
+    private static WebDriver startFirefoxDriver() {
         try {
             System.out.println("🔄 Setting up FirefoxDriver...");
-            WebDriverManager.firefoxdriver().setup();
+            DriverBinaryResolver.resolve("firefox");
 
             FirefoxOptions options = new FirefoxOptions();
-            options.addArguments("--start-maximized");
+            BrowserProfile.current().applyTo(options);
+            if (BrowserContextManager.isEnabled()) {
+                // User contexts are only reachable over WebDriver BiDi
+                options.setCapability("webSocketUrl", true);
+            }
 
-            FirefoxDriver driver = new FirefoxDriver(options);
-            setDriver(driver);
+            WebDriver driver = DriverServices.isEnabled()
+                    ? DriverServices.newSession("firefox", options)
+                    : new FirefoxDriver(options);
             configureDriver(driver);
             System.out.println("✅ FirefoxDriver initialized successfully!");
             return driver;
@@ -121,50 +200,49 @@ public class DriverManager {
 
     // Initialize Edge driver
     public static WebDriver getEdgeDriver() {
+        WebDriver driver = startEdgeDriver();
+        setDriver(driver);
+        return driver;
+    }
+
+    private static WebDriver startEdgeDriver() {
         try {
             System.out.println("🔄 Setting up EdgeDriver...");
 
-            // Set the Edge driver path
-            String edgeDriverPath = "C:\\Users\\alulutho.tokwe\\Documents\\edgedriver_win64\\msedgedriver.exe";
-            System.setProperty("webdriver.edge.driver", edgeDriverPath);
-
-            // Verify the driver exists
-            File driverFile = new File(edgeDriverPath);
-            if (!driverFile.exists()) {
-                throw new FileNotFoundException("EdgeDriver not found at: " + edgeDriverPath);
-            }
+            // Honours -Dwebdriver.edge.driver, otherwise uses the local driver cache
+            DriverBinaryResolver.resolve("edge");
 
             EdgeOptions options = new EdgeOptions();
-            options.addArguments("--start-maximized");
-            options.addArguments("--remote-allow-origins=*"); // Critical for Edge
-            options.addArguments("--disable-gpu");
-            options.addArguments("--no-sandbox");
-            options.addArguments("--disable-dev-shm-usage");
-            options.addArguments("--disable-extensions");
+            BrowserProfile.current().applyTo(options);
 
             // Edge specific capabilities
             options.setCapability("acceptInsecureCerts", true);
-            options.setCapability("ms:edgeOptions", Map.of(
-                    "args", Arrays.asList("--start-maximized", "--remote-allow-origins=*")
-            ));
 
-            EdgeDriver driver = new EdgeDriver(options);
-            setDriver(driver);  // FIXED: Pass the driver instance, not the path
+            WebDriver driver = DriverServices.isEnabled()
+                    ? DriverServices.newSession("edge", options)
+                    : new EdgeDriver(options);
             configureDriver(driver);
             System.out.println("✅ EdgeDriver initialized successfully!");
             return driver;
 
         } catch (Exception e) {
             System.out.println("❌ Failed to initialize EdgeDriver: " + e.getMessage());
-            System.out.println("💡 Please check if EdgeDriver exists at: C:\\Users\\alulutho.tokwe\\Documents\\edgedriver_win64\\msedgedriver.exe");
+            System.out.println("💡 Set -Dwebdriver.edge.driver=<path to msedgedriver> if no driver could be resolved");
             throw new RuntimeException("EdgeDriver initialization failed", e);
         }
     }
 
     // Initialize Safari driver (macOS only)
     public static WebDriver getSafariDriver() {
-        SafariDriver driver = new SafariDriver();
+        WebDriver driver = startSafariDriver();
         setDriver(driver);
+        return driver;
+    }
+
+    private static WebDriver startSafariDriver() {
+        SafariDriver driver = new SafariDriver();
+        // Safari has no launch flags for the window size
+        driver.manage().window().setSize(BrowserProfile.current().getWindowSize());
         configureDriver(driver);
         return driver;
     }
@@ -174,31 +252,84 @@ public class DriverManager {
         driverThreadLocal.set(driver);
     }
 
-    // Common driver configuration - UPDATED FOR Selenium 4
-    private static void configureDriver(WebDriver driver) {
-        driver.manage().window().maximize();
-
+    // Common driver configuration - UPDATED FOR Selenium 4 (window size is set at launch by the profile)
+    // Also re-applied by DriverPool when a session is returned, in case a test changed the timeouts
+    static void configureDriver(WebDriver driver) {
         // Selenium 4 uses Duration instead of TimeUnit
         driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
         driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(30));
         driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(10));
     }
 
-    // Quit driver
+    // Quit driver (pooled sessions are reset and returned to the pool instead)
     public static void quitDriver() {
-        WebDriver driver = getDriver();
+        WebDriver decorated = getDriver();
+        WebDriver animated = ImplicitWaitProfiler.unwrap(decorated);
+        ImplicitWaitProfiler.forget(decorated);
+        WebDriver driver = Animations.unwrap(animated);
+        Animations.forget(animated);
+        if (driver != null && !DriverPool.owns(driver)) {
+            ConcurrencyGovernor.release(driver);
+        }
+        if (driver != null && BrowserContextManager.owns(driver)) {
+            System.out.println("♻️ Closing browser context...");
+            ProcessReaper.releaseOwner(driver);
+            BrowserContextManager.release(driver);
+            driverThreadLocal.remove();
+            return;
+        }
+        if (driver != null && DriverPool.owns(driver)) {
+            System.out.println("♻️ Returning browser to pool...");
+            ProcessReaper.releaseOwner(driver);
+            DriverPool.release(driver);
+            driverThreadLocal.remove();
+            return;
+        }
         if (driver != null) {
             System.out.println("🔄 Closing browser...");
-            try {
-                driver.quit();
-            } catch (Exception e) {
-                System.out.println("⚠️ Error closing browser: " + e.getMessage());
-            }
+            closeSession(driver);
             driverThreadLocal.remove();
             System.out.println("✅ Browser closed successfully!");
         }
     }
 
+    // Quit a session and hand its driver service back for reuse
+    static void closeSession(WebDriver driver) {
+        boolean quit = false;
+        try {
+            driver.quit();
+            quit = true;
+            ProcessReaper.sessionQuit(driver);
+        } catch (Exception e) {
+            System.out.println("⚠️ Error closing browser: " + e.getMessage());
+            ProcessReaper.sessionUnreachable(driver);
+        } finally {
+            DriverServices.sessionClosed(driver, quit);
+        }
+    }
+
+    // Take back a session whose test thread died before quitting it
+    static void reclaim(WebDriver driver) {
+        if (!DriverPool.owns(driver)) {
+            ConcurrencyGovernor.release(driver);
+        }
+        if (BrowserContextManager.owns(driver)) {
+            BrowserContextManager.release(driver);
+        } else if (DriverPool.owns(driver)) {
+            DriverPool.discard(driver);
+        } else {
+            closeSession(driver);
+        }
+    }
+
+    // JVM exit: quit sessions while their driver services are still up, then stop services and reap leftovers
+    static void shutdown() {
+        BrowserContextManager.shutdown();
+        DriverPool.shutdown();
+        DriverServices.shutdown();
+        ProcessReaper.reapAll();
+    }
+
     // Capture screenshot
     public static String captureScreenshot(WebDriver driver, String browserName) {
         try {
@@ -238,13 +369,19 @@ public class DriverManager {
     // Get current browser name
     public static String getCurrentBrowser() {
         WebDriver driver = getDriver();
-        if (driver instanceof ChromeDriver) {
+        if (!(driver instanceof HasCapabilities)) {
+            return "unknown";
+        }
+
+        // Sessions on a shared driver service are RemoteWebDriver instances, so ask the capabilities
+        String browserName = ((HasCapabilities) driver).getCapabilities().getBrowserName().toLowerCase();
+        if (browserName.contains("chrome")) {
             return "chrome";
-        } else if (driver instanceof FirefoxDriver) {
+        } else if (browserName.contains("firefox")) {
             return "firefox";
-        } else if (driver instanceof EdgeDriver) {
+        } else if (browserName.contains("edge")) {
             return "edge";
-        } else if (driver instanceof SafariDriver) {
+        } else if (browserName.contains("safari")) {
             return "safari";
         } else {
             return "unknown";
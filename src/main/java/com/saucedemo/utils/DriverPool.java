@@ -0,0 +1,390 @@
+package com.saucedemo.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Bounded per-browser pool of live WebDriver sessions.
+ *
+ * Tests lease a session instead of starting a browser, and return it instead of quitting.
+ * On return the session is reset (windows other than the one it started with closed, default
+ * timeouts re-applied, cookies and web storage cleared, back on the base URL). Sessions that
+ * fail the health check on lease are retired.
+ *
+ * The pool also pre-spawns sessions in the background: after every lease it tops the
+ * browser up to its lookahead of ready sessions, capped by the tests still scheduled
+ * for that browser (see {@link #schedule(String, int)}) and by the pool size. Nothing is
+ * pre-spawned for a browser until its schedule is known.
+ *
+ * Every browser the pool starts, in the background or on a test thread, holds a
+ * ConcurrencyGovernor slot from start until it is retired, so idle and pre-spawned
+ * sessions count against the host's memory and load limits like any other.
+ *
+ * Configuration (system properties):
+ *   driver.pool            - "true" enables pooling (default: false - every test gets a new browser)
+ *   driver.pool.size       - max live sessions per browser (default: 3)
+ *   driver.pool.size.BROWSER - per-browser override, e.g. driver.pool.size.firefox=1
+ *   driver.pool.max.reuse  - leases before a session is retired (default: 50)
+ *   driver.pool.timeout    - seconds to wait for a free session (default: 120)
+ *   base.url               - URL sessions are reset to (default: https://www.saucedemo.com/)
+ *   driver.prespawn        - ready sessions to keep booted ahead of demand (default: 1)
+ *   driver.prespawn.BROWSER - per-browser override, e.g. driver.prespawn.firefox=2
+ */
+public class DriverPool {
+
+    private static final boolean ENABLED = Boolean.getBoolean("driver.pool");
+    private static final int MAX_SIZE = Integer.getInteger("driver.pool.size", 3);
+    private static final int MAX_REUSE = Integer.getInteger("driver.pool.max.reuse", 50);
+    private static final long LEASE_TIMEOUT_MS = Integer.getInteger("driver.pool.timeout", 120) * 1000L;
+    private static final String BASE_URL = System.getProperty("base.url", "https://www.saucedemo.com/");
+
+    private static final Map<String, BrowserPool> pools = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, PooledSession> leased = new IdentityHashMap<>();
+
+    private static volatile boolean shuttingDown;
+
+    private static final ExecutorService spawner = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "driver-prespawn");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private DriverPool() {}
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    // Lease a live session for the given browser, creating one if the pool has capacity
+    public static WebDriver lease(String browser) {
+        String key = browser.toLowerCase();
+        BrowserPool pool = pools.computeIfAbsent(key, BrowserPool::new);
+        long start = System.currentTimeMillis();
+
+        while (true) {
+            PooledSession session = pool.takeOrReserve(start + LEASE_TIMEOUT_MS);
+            long waited = System.currentTimeMillis() - start;
+
+            if (session == null) {
+                // Capacity was reserved for us - start a fresh browser on this thread
+                session = startSession(pool, false);
+                PerformanceMetrics.increment("prespawn.miss");
+            } else if (!isHealthy(session)) {
+                System.out.println("⚠️ Retiring unhealthy " + key + " session");
+                retire(pool, session);
+                PerformanceMetrics.increment("pool.sessions.retired");
+                continue;
+            } else {
+                PerformanceMetrics.increment("prespawn.hit");
+                if (session.leaseCount > 0) {
+                    PerformanceMetrics.increment("pool.sessions.reused");
+                } else if (session.prespawned) {
+                    // Startup time that ran in the background instead of inside @BeforeMethod
+                    PerformanceMetrics.recordTime("prespawn.hidden.startup." + key,
+                            Math.max(0, session.startupMillis - waited));
+                }
+            }
+
+            session.leaseCount++;
+            synchronized (leased) {
+                leased.put(session.driver, session);
+            }
+            PerformanceMetrics.recordTime("pool.lease.wait." + key, System.currentTimeMillis() - start);
+
+            pool.consumeScheduled();
+            topUp(pool);
+            return session.driver;
+        }
+    }
+
+    // Record how many upcoming tests will need this browser, and start warming sessions for them
+    public static void schedule(String browser, int upcomingTests) {
+        if (!ENABLED || BrowserContextManager.isEnabled()) {
+            return;
+        }
+        BrowserPool pool = pools.computeIfAbsent(browser.toLowerCase(), BrowserPool::new);
+        pool.setScheduled(upcomingTests);
+        topUp(pool);
+    }
+
+    // Max live sessions for the browser (driver.pool.size, or its per-browser override)
+    public static int capacity(String browser) {
+        return pools.computeIfAbsent(browser.toLowerCase(), BrowserPool::new).maxSize;
+    }
+
+    // Whether this driver was handed out by the pool
+    public static boolean owns(WebDriver driver) {
+        synchronized (leased) {
+            return leased.containsKey(driver);
+        }
+    }
+
+    // Return a leased session: reset it and make it available again, or retire it
+    public static void release(WebDriver driver) {
+        PooledSession session;
+        synchronized (leased) {
+            session = leased.remove(driver);
+        }
+        if (session == null) {
+            return;
+        }
+
+        BrowserPool pool = pools.get(session.browser);
+        if (session.leaseCount >= MAX_REUSE || !reset(session)) {
+            retire(pool, session);
+            PerformanceMetrics.increment("pool.sessions.retired");
+            return;
+        }
+        pool.giveBack(session);
+    }
+
+    // Drop a leased session whose test can no longer return it
+    public static void discard(WebDriver driver) {
+        PooledSession session;
+        synchronized (leased) {
+            session = leased.remove(driver);
+        }
+        if (session != null) {
+            retire(pools.get(session.browser), session);
+            PerformanceMetrics.increment("pool.sessions.retired");
+        }
+    }
+
+    // Quit every idle session; leased sessions are quit by their owners
+    public static void shutdown() {
+        shuttingDown = true;
+        spawner.shutdownNow();
+        for (BrowserPool pool : pools.values()) {
+            for (PooledSession session : pool.drainIdle()) {
+                retire(pool, session);
+            }
+        }
+    }
+
+    // ========== SESSION LIFECYCLE ==========
+
+    private static PooledSession startSession(BrowserPool pool, boolean prespawned) {
+        // Waits here while the host has no room for another browser
+        ConcurrencyGovernor.acquire(pool.browser);
+        long start = System.currentTimeMillis();
+        WebDriver driver = null;
+        try {
+            driver = DriverManager.createDriver(pool.browser);
+            ConcurrencyGovernor.attach(driver, pool.browser);
+            PooledSession session = new PooledSession(pool.browser, driver);
+            session.startupMillis = System.currentTimeMillis() - start;
+            session.prespawned = prespawned;
+            PerformanceMetrics.increment("pool.sessions.created");
+            return session;
+        } catch (RuntimeException e) {
+            if (driver != null) {
+                ConcurrencyGovernor.release(driver);
+                DriverManager.closeSession(driver);
+            } else {
+                ConcurrencyGovernor.cancel(pool.browser);
+            }
+            pool.releaseCapacity();
+            throw e;
+        }
+    }
+
+    // Boot sessions in the background until the browser has its lookahead ready
+    private static void topUp(BrowserPool pool) {
+        int lookahead = Integer.getInteger("driver.prespawn." + pool.browser, Integer.getInteger("driver.prespawn", 1));
+        int toSpawn = pool.reserveForPrespawn(lookahead);
+
+        for (int i = 0; i < toSpawn; i++) {
+            spawner.submit(() -> {
+                try {
+                    PooledSession session = startSession(pool, true);
+                    if (shuttingDown) {
+                        pool.abortPrespawn();
+                        retire(pool, session);
+                        return;
+                    }
+                    pool.finishPrespawn(session);
+                } catch (RuntimeException e) {
+                    pool.abortPrespawn();
+                    System.out.println("⚠️ Background " + pool.browser + " session failed to start: " + e.getMessage());
+                }
+            });
+        }
+    }
+
+    private static boolean isHealthy(PooledSession session) {
+        try {
+            return !session.driver.getWindowHandles().isEmpty();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static boolean reset(PooledSession session) {
+        long start = System.currentTimeMillis();
+        WebDriver driver = session.driver;
+        try {
+            // Close every window except the one the session started with (the set is unordered)
+            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            if (!handles.contains(session.mainHandle)) {
+                // The test closed the original window; the next borrower can't be given a popup
+                return false;
+            }
+            for (String handle : handles) {
+                if (!handle.equals(session.mainHandle)) {
+                    driver.switchTo().window(handle);
+                    driver.close();
+                }
+            }
+            driver.switchTo().window(session.mainHandle);
+
+            // Undo any timeouts the test changed
+            DriverManager.configureDriver(driver);
+
+            // Storage is per-origin, so clear it while on the base URL
+            driver.get(BASE_URL);
+            driver.manage().deleteAllCookies();
+            ((JavascriptExecutor) driver).executeScript(
+                    "window.localStorage.clear(); window.sessionStorage.clear();");
+            // The page above was loaded with the previous test's cookies and storage and may hold
+            // them in memory; load it again so the next test starts from a page that never saw them
+            driver.get(BASE_URL);
+
+            PerformanceMetrics.recordTime("pool.reset." + session.browser, System.currentTimeMillis() - start);
+            return true;
+        } catch (Exception e) {
+            System.out.println("⚠️ Failed to reset " + session.browser + " session: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static void retire(BrowserPool pool, PooledSession session) {
+        ConcurrencyGovernor.release(session.driver);
+        DriverManager.closeSession(session.driver);
+        pool.releaseCapacity();
+    }
+
+    // ========== INTERNAL TYPES ==========
+
+    // Package-private for DriverPoolTest
+    static final class PooledSession {
+        private final String browser;
+        private final WebDriver driver;
+        private final String mainHandle;
+        private int leaseCount;
+        private long startupMillis;
+        private boolean prespawned;
+
+        PooledSession(String browser, WebDriver driver) {
+            this.browser = browser;
+            this.driver = driver;
+            this.mainHandle = driver.getWindowHandle();
+        }
+    }
+
+    // Reservation accounting for one browser (package-private for DriverPoolTest)
+    static final class BrowserPool {
+        private final String browser;
+        private final int maxSize;
+        private final Deque<PooledSession> idle = new ArrayDeque<>();
+        private int live;
+        private int spawning;
+        private int waiting;
+        private int scheduled = -1; // unknown until the suite tells us
+
+        BrowserPool(String browser) {
+            this.browser = browser;
+            this.maxSize = Integer.getInteger("driver.pool.size." + browser, MAX_SIZE);
+        }
+
+        // Returns an idle session, or null after reserving capacity for a new one
+        synchronized PooledSession takeOrReserve(long deadline) {
+            while (true) {
+                PooledSession session = idle.pollFirst();
+                if (session != null) {
+                    return session;
+                }
+                // A background start that nobody has claimed yet finishes sooner than a new one
+                if (live < maxSize && spawning <= waiting) {
+                    live++;
+                    return null;
+                }
+
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    throw new RuntimeException("Timed out waiting for a free " + browser + " session");
+                }
+                waiting++;
+                try {
+                    wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while waiting for a " + browser + " session", e);
+                } finally {
+                    waiting--;
+                }
+            }
+        }
+
+        // Reserve capacity for background starts; returns how many to launch (none until scheduled)
+        synchronized int reserveForPrespawn(int lookahead) {
+            if (scheduled < 0) {
+                return 0;
+            }
+            int target = Math.min(lookahead, scheduled);
+            int count = 0;
+            while (idle.size() + spawning < target && live < maxSize) {
+                live++;
+                spawning++;
+                count++;
+            }
+            return count;
+        }
+
+        synchronized void finishPrespawn(PooledSession session) {
+            spawning--;
+            idle.addLast(session);
+            notifyAll();
+        }
+
+        synchronized void abortPrespawn() {
+            spawning--;
+            notifyAll();
+        }
+
+        synchronized void setScheduled(int upcomingTests) {
+            scheduled = upcomingTests;
+        }
+
+        synchronized void consumeScheduled() {
+            if (scheduled > 0) {
+                scheduled--;
+            }
+        }
+
+        synchronized void giveBack(PooledSession session) {
+            idle.addFirst(session);
+            notifyAll();
+        }
+
+        synchronized void releaseCapacity() {
+            live--;
+            notifyAll();
+        }
+
+        synchronized List<PooledSession> drainIdle() {
+            List<PooledSession> sessions = new ArrayList<>(idle);
+            idle.clear();
+            return sessions;
+        }
+    }
+}
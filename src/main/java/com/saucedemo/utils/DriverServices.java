@@ -0,0 +1,200 @@
+package com.saucedemo.utils;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.service.DriverFinder;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Long-lived driver service processes (chromedriver, msedgedriver, geckodriver) shared by
+ * every session this JVM opens, instead of one service process per session.
+ *
+ * chromedriver and msedgedriver serve many sessions at once, so each gets a single
+ * service. geckodriver only drives one Firefox at a time, so its services are kept in an
+ * idle stack and handed to the next session once the previous one has quit; a service
+ * whose session failed to quit is stopped instead.
+ * All services are stopped at JVM exit, after pooled sessions have been quit.
+ *
+ * Configuration (system properties):
+ *   driver.service.shared - "false" starts a service per session (default: true)
+ */
+public class DriverServices {
+
+    private static final boolean ENABLED = !"false".equalsIgnoreCase(System.getProperty("driver.service.shared", "true"));
+
+    private static final Map<String, DriverService> sharedServices = new HashMap<>();
+    private static final Map<String, Deque<DriverService>> idleExclusiveServices = new HashMap<>();
+    private static final Map<WebDriver, DriverService> exclusiveLeases = new IdentityHashMap<>();
+    private static final List<DriverService> allServices = new ArrayList<>();
+
+    private DriverServices() {}
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    // Open a new session against this JVM's long-lived service for the browser
+    public static WebDriver newSession(String browser, Capabilities options) {
+        String key = browser.toLowerCase();
+        DriverService service = "firefox".equals(key) ? leaseExclusive(key, options) : shared(key, options);
+
+        WebDriver driver;
+        try {
+            // Augmenting restores browser-specific interfaces such as HasCdp on the remote driver
+            driver = new Augmenter().augment(new RemoteWebDriver(service.getUrl(), options));
+        } catch (RuntimeException e) {
+            if ("firefox".equals(key)) {
+                returnExclusive(key, service);
+            }
+            throw e;
+        }
+
+        if ("firefox".equals(key)) {
+            synchronized (exclusiveLeases) {
+                exclusiveLeases.put(driver, service);
+            }
+        }
+        PerformanceMetrics.recordSample("processes.driver.services", runningServices());
+        return driver;
+    }
+
+    // Called after a session has ended so an exclusive service can serve the next one. If quit()
+    // failed the service may still hold the session, so it is stopped instead of reused.
+    public static void sessionClosed(WebDriver driver, boolean quitCleanly) {
+        DriverService service;
+        synchronized (exclusiveLeases) {
+            service = exclusiveLeases.remove(driver);
+        }
+        if (service == null) {
+            return;
+        }
+        if (quitCleanly) {
+            returnExclusive("firefox", service);
+            return;
+        }
+        synchronized (DriverServices.class) {
+            allServices.remove(service);
+        }
+        try {
+            service.stop();
+            PerformanceMetrics.increment("driver.service.stopped.unclean");
+        } catch (Exception e) {
+            System.out.println("⚠️ Error stopping driver service: " + e.getMessage());
+        }
+    }
+
+    // Number of driver service processes currently running in this JVM
+    public static synchronized int runningServices() {
+        int running = 0;
+        for (DriverService service : allServices) {
+            if (service.isRunning()) {
+                running++;
+            }
+        }
+        return running;
+    }
+
+    // Sessions must have quit before this runs (see DriverManager.shutdown)
+    public static void shutdown() {
+        List<DriverService> services;
+        synchronized (DriverServices.class) {
+            services = new ArrayList<>(allServices);
+            allServices.clear();
+            sharedServices.clear();
+            idleExclusiveServices.clear();
+        }
+        for (DriverService service : services) {
+            try {
+                service.stop();
+            } catch (Exception e) {
+                System.out.println("⚠️ Error stopping driver service: " + e.getMessage());
+            }
+        }
+    }
+
+    // ========== SERVICE LIFECYCLE ==========
+
+    private static synchronized DriverService shared(String browser, Capabilities options) {
+        DriverService service = sharedServices.get(browser);
+        if (service == null || !service.isRunning()) {
+            service = start(browser, options);
+            sharedServices.put(browser, service);
+        }
+        return service;
+    }
+
+    private static DriverService leaseExclusive(String browser, Capabilities options) {
+        synchronized (DriverServices.class) {
+            Deque<DriverService> idle = idleExclusiveServices.computeIfAbsent(browser, k -> new ArrayDeque<>());
+            while (!idle.isEmpty()) {
+                DriverService service = idle.pop();
+                if (service.isRunning()) {
+                    PerformanceMetrics.increment("driver.service.reused." + browser);
+                    return service;
+                }
+                allServices.remove(service);
+            }
+        }
+        return start(browser, options);
+    }
+
+    private static synchronized void returnExclusive(String browser, DriverService service) {
+        if (allServices.contains(service)) {
+            idleExclusiveServices.computeIfAbsent(browser, k -> new ArrayDeque<>()).push(service);
+        }
+    }
+
+    private static DriverService start(String browser, Capabilities options) {
+        long start = System.currentTimeMillis();
+        DriverService service = build(browser);
+        try {
+            if (service.getExecutable() == null) {
+                // Same lookup Selenium does for ChromeDriver(options): system property, then Selenium Manager
+                service.setExecutable(DriverFinder.getPath(service, options).getDriverPath());
+            }
+            service.start();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to start " + browser + " driver service", e);
+        }
+
+        synchronized (DriverServices.class) {
+            allServices.add(service);
+        }
+        PerformanceMetrics.increment("driver.service.started." + browser);
+        PerformanceMetrics.recordTime("driver.service.startup." + browser, System.currentTimeMillis() - start);
+        System.out.println("🛠️ Started " + browser + " driver service at " + service.getUrl());
+        return service;
+    }
+
+    private static DriverService build(String browser) {
+        String path = DriverBinaryResolver.resolve(browser);
+        File executable = path == null ? null : new File(path);
+
+        switch (browser) {
+            case "firefox":
+                GeckoDriverService.Builder gecko = new GeckoDriverService.Builder().usingAnyFreePort();
+                return executable == null ? gecko.build() : gecko.usingDriverExecutable(executable).build();
+            case "edge":
+                EdgeDriverService.Builder edge = new EdgeDriverService.Builder().usingAnyFreePort();
+                return executable == null ? edge.build() : edge.usingDriverExecutable(executable).build();
+            default:
+                ChromeDriverService.Builder chrome = new ChromeDriverService.Builder().usingAnyFreePort();
+                return executable == null ? chrome.build() : chrome.usingDriverExecutable(executable).build();
+        }
+    }
+}
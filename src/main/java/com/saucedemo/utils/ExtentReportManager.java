@@ -11,25 +11,65 @@ import org.openqa.selenium.WebDriver;
 
 import java.awt.*;
 import java.io.File;
-import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Map;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * ExtentReports access for all test threads.
+ *
+ * ExtentReports is not thread-safe, so test threads do not touch it: each call publishes an
+ * event to a bounded lock-free queue and returns, and a single consumer thread applies the
+ * events in order. Screenshots are taken on the test thread (the driver belongs to it) and
+ * copied into the report directory by the consumer.
+ *
+ * When the queue is full, info and warning lines are dropped; test creation, results and
+ * screenshots wait for space instead (backpressure). Both are counted and printed on flush.
+ * getTest() and flush() wait for the events published before them to be applied.
+ *
+ * Configuration (system properties):
+ *   report.async          - "false" applies events on the calling thread under a lock (default: true)
+ *   report.queue.capacity - events the queue holds before dropping/backpressure (default: 10000)
+ *   report.console        - "false" stops echoing report lines to the console (default: true)
+ */
 public class ExtentReportManager {
 
-    private static ExtentReports extent;
-    private static Map<String, ExtentTest> extentTestMap = new HashMap<>();
-    private static Map<String, ExtentTest> testMap = new HashMap<>();
+    private static final int CAPACITY = Integer.getInteger("report.queue.capacity", 10000);
+    private static final boolean CONSOLE = Boolean.parseBoolean(System.getProperty("report.console", "true"));
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long BACKPRESSURE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long DRAIN_TIMEOUT_SECONDS = 60;
+
+    private static volatile ExtentReports extent;
+    private static final Map<String, ExtentTest> testMap = new ConcurrentHashMap<>();
     private static String reportPath;
     private static final String SCREENSHOT_DIR = "test-output/ExtentReports/screenshots/";
 
+    // Event pipeline: many producers, one consumer
+    private static volatile boolean async = !"false".equalsIgnoreCase(System.getProperty("report.async"));
+    private static final ConcurrentLinkedQueue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger queued = new AtomicInteger();
+    private static final LongAdder published = new LongAdder();
+    private static final LongAdder applied = new LongAdder();
+    private static final LongAdder dropped = new LongAdder();
+    private static final LongAdder backpressured = new LongAdder();
+    private static final long[] recorded = new long[3];
+    private static final Object inlineLock = new Object();
+    private static volatile Thread consumer;
+    private static volatile boolean consumerIdle;
+
     private ExtentReportManager() {}
 
-    public static synchronized ExtentReports getInstance() {
+    public static ExtentReports getInstance() {
         if (extent == null) {
             initializeReport();
         }
@@ -56,45 +96,188 @@ public class ExtentReportManager {
             spark.config().setCSS(".nav-wrapper { background-color: #4CAF50 !important; }");
             spark.config().setCSS(".test-name { color: #2196F3; }");
 
-            extent = new ExtentReports();
-            extent.attachReporter(spark);
+            ExtentReports reports = new ExtentReports();
+            reports.attachReporter(spark);
 
             // Enhanced System Information
-            extent.setSystemInfo("Organization", "SauceDemo");
-            extent.setSystemInfo("Project", "Automation Testing Suite");
-            extent.setSystemInfo("Automation Framework", "Selenium WebDriver 4");
-            extent.setSystemInfo("Testing Framework", "TestNG");
-            extent.setSystemInfo("Build Tool", "Maven");
-            extent.setSystemInfo("Java Version", System.getProperty("java.version"));
-            extent.setSystemInfo("OS", System.getProperty("os.name"));
-            extent.setSystemInfo("OS Version", System.getProperty("os.version"));
-            extent.setSystemInfo("OS Architecture", System.getProperty("os.arch"));
-            extent.setSystemInfo("User", System.getProperty("user.name"));
-            extent.setSystemInfo("Browsers Tested", "Chrome, Firefox, Edge");
-            extent.setSystemInfo("Environment", "QA");
-            extent.setSystemInfo("Test Mode", "Cross-Browser");
+            reports.setSystemInfo("Organization", "SauceDemo");
+            reports.setSystemInfo("Project", "Automation Testing Suite");
+            reports.setSystemInfo("Automation Framework", "Selenium WebDriver 4");
+            reports.setSystemInfo("Testing Framework", "TestNG");
+            reports.setSystemInfo("Build Tool", "Maven");
+            reports.setSystemInfo("Java Version", System.getProperty("java.version"));
+            reports.setSystemInfo("OS", System.getProperty("os.name"));
+            reports.setSystemInfo("OS Version", System.getProperty("os.version"));
+            reports.setSystemInfo("OS Architecture", System.getProperty("os.arch"));
+            reports.setSystemInfo("User", System.getProperty("user.name"));
+            reports.setSystemInfo("Browsers Tested", "Chrome, Firefox, Edge");
+            reports.setSystemInfo("Environment", "QA");
+            reports.setSystemInfo("Test Mode", "Cross-Browser");
+            extent = reports;
 
             System.out.println("📊 Extent Report initialized: " + reportPath);
         }
     }
 
-    public static synchronized void createTest(String testName, String browser) {
-        ExtentReports extent = getInstance();
-        ExtentTest test = extent.createTest(testName);
-        test.assignCategory(browser.toUpperCase());
-        test.assignDevice(browser.toUpperCase());
+    // ========== EVENT PIPELINE ==========
+
+    // Queues the event without taking a lock; droppable events are discarded when the queue is full
+    private static void publish(Runnable event, boolean droppable) {
+        if (!async) {
+            synchronized (inlineLock) {
+                apply(event);
+            }
+            return;
+        }
+        startConsumer();
+
+        boolean waited = false;
+        while (true) {
+            int size = queued.get();
+            if (size < CAPACITY) {
+                if (queued.compareAndSet(size, size + 1)) {
+                    break;
+                }
+                continue;
+            }
+            if (droppable) {
+                dropped.increment();
+                return;
+            }
+            if (!waited) {
+                backpressured.increment();
+                waited = true;
+            }
+            // The consumer never wakes producers, so poll for space rather than spin on it
+            LockSupport.unpark(consumer);
+            LockSupport.parkNanos(BACKPRESSURE_PARK_NANOS);
+        }
+
+        queue.offer(event);
+        published.increment();
+        if (consumerIdle) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    private static void startConsumer() {
+        if (consumer != null) {
+            return;
+        }
+        synchronized (queue) {
+            if (consumer == null) {
+                Thread thread = new Thread(ExtentReportManager::consume, "extent-report-consumer");
+                thread.setDaemon(true);
+                thread.start();
+                consumer = thread;
+            }
+        }
+    }
+
+    private static void consume() {
+        while (true) {
+            Runnable event = queue.poll();
+            if (event == null) {
+                // Producers check the flag after queueing, so an event offered now still wakes us
+                consumerIdle = true;
+                if (queue.isEmpty()) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+                consumerIdle = false;
+                continue;
+            }
+            queued.decrementAndGet();
+            apply(event);
+        }
+    }
+
+    // Catches Errors too: if the consumer died, producers waiting on a full queue would wait forever
+    private static void apply(Runnable event) {
+        try {
+            event.run();
+        } catch (Throwable e) {
+            System.out.println("⚠️ Report event failed: " + e);
+        }
+        applied.increment();
+    }
+
+    // Runs the action after every event published so far, and waits for it
+    private static void runAfterPending(Runnable action) {
+        CountDownLatch done = new CountDownLatch(1);
+        publish(() -> {
+            try {
+                action.run();
+            } finally {
+                done.countDown();
+            }
+        }, false);
+        try {
+            if (!done.await(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                System.out.println("⚠️ Report events still pending after " + DRAIN_TIMEOUT_SECONDS + "s");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // For callers holding their own ExtentTest: runs the event on the consumer, in order with the rest
+    public static void submit(Runnable event) {
+        publish(event, false);
+    }
+
+    // Waits until every event published so far has been applied
+    public static void awaitPending() {
+        runAfterPending(() -> {});
+    }
+
+    public static long publishedEvents() {
+        return published.sum();
+    }
+
+    public static long appliedEvents() {
+        return applied.sum();
+    }
+
+    public static long droppedEvents() {
+        return dropped.sum();
+    }
+
+    public static long backpressuredEvents() {
+        return backpressured.sum();
+    }
+
+    // For ReportPipelineBenchmark: compare the queue with the old lock-per-call path
+    static void setAsync(boolean enabled) {
+        awaitPending();
+        async = enabled;
+    }
+
+    private static void console(String line) {
+        if (CONSOLE) {
+            System.out.println(line);
+        }
+    }
+
+    // ========== TESTS AND LOG LINES ==========
 
-        // Add browser icon emoji
-        String browserIcon = getBrowserIcon(browser);
-        test.info("Browser: " + browserIcon + " " + browser.toUpperCase());
+    public static void createTest(String testName, String browser) {
+        ExtentReports reports = getInstance();
+        publish(() -> {
+            ExtentTest test = reports.createTest(testName);
+            test.assignCategory(browser.toUpperCase());
+            test.assignDevice(browser.toUpperCase());
 
-        testMap.put(testName, test);
-        extentTestMap.put(testName, test);
+            // Add browser icon emoji
+            String browserIcon = getBrowserIcon(browser);
+            test.info("Browser: " + browserIcon + " " + browser.toUpperCase());
 
-        System.out.println("📝 Created test entry: " + testName + " [" + browser.toUpperCase() + "]");
+            testMap.put(testName, test);
+
+            console("📝 Created test entry: " + testName + " [" + browser.toUpperCase() + "]");
+        }, false);
     }
 
-    public static synchronized void createTest(String testName) {
+    public static void createTest(String testName) {
         createTest(testName, "Chrome");
     }
 
@@ -108,81 +291,93 @@ public class ExtentReportManager {
         }
     }
 
-    public static synchronized ExtentTest getTest(String testName) {
+    public static ExtentTest getTest(String testName) {
+        awaitPending();
         return testMap.get(testName);
     }
 
-    public static synchronized ExtentTest getTest() {
+    public static ExtentTest getTest() {
+        awaitPending();
         return testMap.values().stream().findFirst().orElse(null);
     }
 
-    public static synchronized void logInfo(String testName, String browser, String message) {
-        ExtentTest test = getTest(testName);
-        if (test != null) {
-            test.info(message);
-            System.out.println("ℹ️  [" + browser.toUpperCase() + "] " + testName + " - INFO: " + message);
-        }
+    public static void logInfo(String testName, String browser, String message) {
+        publish(() -> {
+            ExtentTest test = testMap.get(testName);
+            if (test != null) {
+                test.info(message);
+                console("ℹ️  [" + browser.toUpperCase() + "] " + testName + " - INFO: " + message);
+            }
+        }, true);
     }
 
-    public static synchronized void logPass(String testName, String browser, String message) {
-        ExtentTest test = getTest(testName);
-        if (test != null) {
-            test.pass("✅ " + message);
-            System.out.println("✅ [" + browser.toUpperCase() + "] " + testName + " - PASS: " + message);
-        }
+    public static void logPass(String testName, String browser, String message) {
+        publish(() -> {
+            ExtentTest test = testMap.get(testName);
+            if (test != null) {
+                test.pass("✅ " + message);
+                console("✅ [" + browser.toUpperCase() + "] " + testName + " - PASS: " + message);
+            }
+        }, false);
     }
 
-    public static synchronized void logFail(String testName, String browser, String message) {
-        ExtentTest test = getTest(testName);
-        if (test != null) {
-            test.fail("❌ " + message);
-            System.out.println("❌ [" + browser.toUpperCase() + "] " + testName + " - FAIL: " + message);
-        }
+    public static void logFail(String testName, String browser, String message) {
+        publish(() -> {
+            ExtentTest test = testMap.get(testName);
+            if (test != null) {
+                test.fail("❌ " + message);
+                console("❌ [" + browser.toUpperCase() + "] " + testName + " - FAIL: " + message);
+            }
+        }, false);
     }
 
-    public static synchronized void logWarning(String testName, String browser, String message) {
-        ExtentTest test = getTest(testName);
-        if (test != null) {
-            test.warning("⚠️ " + message);
-            System.out.println("⚠️  [" + browser.toUpperCase() + "] " + testName + " - WARNING: " + message);
-        }
+    public static void logWarning(String testName, String browser, String message) {
+        publish(() -> {
+            ExtentTest test = testMap.get(testName);
+            if (test != null) {
+                test.warning("⚠️ " + message);
+                console("⚠️  [" + browser.toUpperCase() + "] " + testName + " - WARNING: " + message);
+            }
+        }, true);
     }
 
-    public static synchronized void addScreenshot(String testName, String browser, WebDriver driver, String description) {
-        try {
-            if (driver == null) {
-                logWarning(testName, browser, "Driver is null, cannot capture screenshot: " + description);
-                return;
-            }
+    public static void addScreenshot(String testName, String browser, WebDriver driver, String description) {
+        if (driver == null) {
+            logWarning(testName, browser, "Driver is null, cannot capture screenshot: " + description);
+            return;
+        }
+        if (!(driver instanceof TakesScreenshot)) {
+            return;
+        }
 
-            // Capture screenshot
-            String screenshotPath = captureScreenshot(driver, testName + "_" + browser + "_" +
-                    new SimpleDateFormat("HHmmss").format(new Date()));
+        // The session belongs to this thread, so capture here; copying is left to the consumer
+        File sourceFile;
+        try {
+            sourceFile = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
+        } catch (Exception e) {
+            System.out.println("❌ Error capturing screenshot: " + e.getMessage());
+            logWarning(testName, browser, "Failed to capture screenshot: " + e.getMessage());
+            return;
+        }
+        String fileName = testName + "_" + browser + "_" + new SimpleDateFormat("HHmmss").format(new Date());
 
-            if (!screenshotPath.isEmpty()) {
-                ExtentTest test = getTest(testName);
-                if (test != null) {
+        publish(() -> {
+            String screenshotPath = storeScreenshot(sourceFile, fileName);
+            ExtentTest test = testMap.get(testName);
+            if (!screenshotPath.isEmpty() && test != null) {
+                try {
                     // Add screenshot to report with description
-                    test.info(description,
-                            MediaEntityBuilder.createScreenCaptureFromPath(screenshotPath).build());
-
-                    System.out.println("📸 [" + browser.toUpperCase() + "] Screenshot captured: " + description);
+                    test.info(description, MediaEntityBuilder.createScreenCaptureFromPath(screenshotPath).build());
+                    console("📸 [" + browser.toUpperCase() + "] Screenshot captured: " + description);
+                } catch (Exception e) {
+                    test.warning("⚠️ Failed to attach screenshot: " + e.getMessage());
                 }
             }
-        } catch (Exception e) {
-            logWarning(testName, browser, "Failed to capture screenshot: " + e.getMessage());
-        }
+        }, false);
     }
 
-    private static String captureScreenshot(WebDriver driver, String fileName) {
+    private static String storeScreenshot(File sourceFile, String fileName) {
         try {
-            if (!(driver instanceof TakesScreenshot)) {
-                return "";
-            }
-
-            // Take screenshot
-            File sourceFile = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
-
             // Create unique filename
             String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss_SSS").format(new Date());
             String safeFileName = fileName.replaceAll("[^a-zA-Z0-9_-]", "_");
@@ -206,18 +401,31 @@ public class ExtentReportManager {
         return reportPath;
     }
 
-    public static synchronized void flush() {
-        if (extent != null) {
-            extent.flush();
-
-            // Print report summary
-            printReportSummary();
-
-            System.out.println("\n📊 ================================");
-            System.out.println("📊 EXTENT REPORT GENERATED");
-            System.out.println("📊 Location: " + new File(reportPath).getAbsolutePath());
-            System.out.println("📊 ================================\n");
+    public static void flush() {
+        if (extent == null) {
+            return;
         }
+        runAfterPending(() -> extent.flush());
+
+        // Print report summary
+        printReportSummary();
+
+        System.out.println("\n📊 ================================");
+        System.out.println("📊 EXTENT REPORT GENERATED");
+        System.out.println("📊 Location: " + new File(reportPath).getAbsolutePath());
+        System.out.printf("📊 Events: %d published, %d dropped, %d waited for queue space%n",
+                publishedEvents(), droppedEvents(), backpressuredEvents());
+        recordEventCounts();
+        System.out.println("📊 ================================\n");
+    }
+
+    // Pushes the totals since the last flush into PerformanceMetrics
+    private static synchronized void recordEventCounts() {
+        long[] totals = {publishedEvents(), droppedEvents(), backpressuredEvents()};
+        PerformanceMetrics.add("report.events.published", totals[0] - recorded[0]);
+        PerformanceMetrics.add("report.events.dropped", totals[1] - recorded[1]);
+        PerformanceMetrics.add("report.events.backpressure", totals[2] - recorded[2]);
+        System.arraycopy(totals, 0, recorded, 0, totals.length);
     }
 
     private static void printReportSummary() {
@@ -240,7 +448,7 @@ public class ExtentReportManager {
     }
 
     // Alias method for compatibility
-    public static synchronized void flushReport() {
+    public static void flushReport() {
         flush();
     }
 
@@ -260,29 +468,32 @@ public class ExtentReportManager {
     }
 
     // New method: Add test execution time
-    public static synchronized void addExecutionTime(String testName, long startTime, long endTime) {
-        ExtentTest test = getTest(testName);
-        if (test != null) {
-            long executionTime = endTime - startTime;
-            String timeMessage = String.format("⏱️  Execution Time: %d ms (%.2f seconds)",
-                    executionTime, executionTime / 1000.0);
-            test.info(timeMessage);
-        }
+    public static void addExecutionTime(String testName, long startTime, long endTime) {
+        publish(() -> {
+            ExtentTest test = testMap.get(testName);
+            if (test != null) {
+                long executionTime = endTime - startTime;
+                String timeMessage = String.format("⏱️  Execution Time: %d ms (%.2f seconds)",
+                        executionTime, executionTime / 1000.0);
+                test.info(timeMessage);
+            }
+        }, true);
     }
 
     // New method: Mark test as skipped
-    public static synchronized void logSkip(String testName, String browser, String reason) {
-        ExtentTest test = getTest(testName);
-        if (test != null) {
-            test.skip("⏭️  " + reason);
-            System.out.println("⏭️  [" + browser.toUpperCase() + "] " + testName + " - SKIPPED: " + reason);
-        }
+    public static void logSkip(String testName, String browser, String reason) {
+        publish(() -> {
+            ExtentTest test = testMap.get(testName);
+            if (test != null) {
+                test.skip("⏭️  " + reason);
+                console("⏭️  [" + browser.toUpperCase() + "] " + testName + " - SKIPPED: " + reason);
+            }
+        }, false);
     }
 
     // New method: Clear test map (useful for suite teardown)
-    public static synchronized void clearTests() {
-        testMap.clear();
-        extentTestMap.clear();
+    public static void clearTests() {
+        runAfterPending(testMap::clear);
         System.out.println("🧹 Cleared all test entries from ExtentReportManager");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,229 @@
+package com.saucedemo.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Finds element lookups that stalled on the implicit wait.
+ *
+ * Drivers handed out by DriverManager are wrapped in an EventFiringDecorator that times
+ * every findElement/findElements, including the ones page-object fields (LazyWebElement)
+ * and WebDriverWait polls make. Lookups slower than the threshold - usually a locator that
+ * did not match and sat out the 10 s implicit wait - are grouped by locator and the
+ * page-object method that issued them. The worst offenders are printed at suite end and
+ * written to test-output/metrics/implicit-waits.csv.
+ *
+ * Configuration (system properties):
+ *   implicit.wait.profiler     - "true" enables the profiler (default: false)
+ *   implicit.wait.threshold.ms - lookups slower than this are recorded (default: 250)
+ */
+public class ImplicitWaitProfiler implements WebDriverListener {
+
+    private static final boolean ENABLED = Boolean.getBoolean("implicit.wait.profiler");
+    private static final long THRESHOLD_MS = Long.getLong("implicit.wait.threshold.ms", 250);
+    private static final int REPORT_SIZE = 20;
+    private static final String CSV_PATH = "test-output/metrics/implicit-waits.csv";
+
+    private static final ImplicitWaitProfiler LISTENER = new ImplicitWaitProfiler();
+    private static final Map<WebDriver, WebDriver> originals = new IdentityHashMap<>();
+    private static final Map<String, Offender> offenders = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Deque<Long>> lookupStarts = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private ImplicitWaitProfiler() {}
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    // Wrap a driver so its lookups are timed; returns the driver unchanged when disabled
+    public static WebDriver decorate(WebDriver driver) {
+        if (!ENABLED) {
+            return driver;
+        }
+        WebDriver decorated = new EventFiringDecorator<>(LISTENER).decorate(driver);
+        synchronized (originals) {
+            originals.put(decorated, driver);
+        }
+        return decorated;
+    }
+
+    // The driver decorate() was given, so pools and context managers recognise their own sessions
+    public static WebDriver unwrap(WebDriver driver) {
+        synchronized (originals) {
+            WebDriver original = originals.get(driver);
+            return original == null ? driver : original;
+        }
+    }
+
+    public static void forget(WebDriver decorated) {
+        synchronized (originals) {
+            originals.remove(decorated);
+        }
+    }
+
+    // ========== LISTENER ==========
+
+    @Override
+    public void beforeFindElement(WebDriver driver, By locator) {
+        lookupStarts.get().push(System.currentTimeMillis());
+    }
+
+    @Override
+    public void afterFindElement(WebDriver driver, By locator, WebElement result) {
+        finished(locator, false);
+    }
+
+    @Override
+    public void beforeFindElements(WebDriver driver, By locator) {
+        lookupStarts.get().push(System.currentTimeMillis());
+    }
+
+    @Override
+    public void afterFindElements(WebDriver driver, By locator, List<WebElement> result) {
+        finished(locator, result.isEmpty());
+    }
+
+    @Override
+    public void beforeFindElement(WebElement element, By locator) {
+        lookupStarts.get().push(System.currentTimeMillis());
+    }
+
+    @Override
+    public void afterFindElement(WebElement element, By locator, WebElement result) {
+        finished(locator, false);
+    }
+
+    @Override
+    public void beforeFindElements(WebElement element, By locator) {
+        lookupStarts.get().push(System.currentTimeMillis());
+    }
+
+    @Override
+    public void afterFindElements(WebElement element, By locator, List<WebElement> result) {
+        finished(locator, result.isEmpty());
+    }
+
+    // A failed findElement gets no after-event
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        if (method.getName().startsWith("findElement") && args != null && args.length == 1 && args[0] instanceof By) {
+            finished((By) args[0], true);
+        }
+    }
+
+    private static void finished(By locator, boolean missed) {
+        Long start = lookupStarts.get().poll();
+        if (start == null) {
+            return;
+        }
+        long elapsed = System.currentTimeMillis() - start;
+        if (elapsed < THRESHOLD_MS) {
+            return;
+        }
+
+        String caller = pageMethod();
+        offenders.computeIfAbsent(caller + " " + locator, k -> new Offender(caller, locator.toString()))
+                .record(elapsed, missed);
+        PerformanceMetrics.recordTime("implicit.wait.lost", elapsed);
+    }
+
+    // First page-object (or test) frame on the stack
+    private static String pageMethod() {
+        StackTraceElement fallback = null;
+        for (StackTraceElement frame : Thread.currentThread().getStackTrace()) {
+            String className = frame.getClassName();
+            if (className.startsWith("com.saucedemo.pages.")) {
+                return describe(frame);
+            }
+            if (fallback == null && (className.startsWith("com.saucedemo.tests.") || className.startsWith("com.saucedemo.base."))) {
+                fallback = frame;
+            }
+        }
+        return fallback == null ? "unknown" : describe(fallback);
+    }
+
+    private static String describe(StackTraceElement frame) {
+        String className = frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1);
+        return className + "." + frame.getMethodName() + ":" + frame.getLineNumber();
+    }
+
+    // ========== REPORTING ==========
+
+    public static void printReport() {
+        if (!ENABLED || offenders.isEmpty()) {
+            return;
+        }
+        List<Offender> ranked = new ArrayList<>(offenders.values());
+        ranked.sort((a, b) -> Long.compare(b.total.sum(), a.total.sum()));
+
+        System.out.println("\n🐢 ================================");
+        System.out.println("🐢 SLOWEST ELEMENT LOOKUPS (> " + THRESHOLD_MS + "ms)");
+        System.out.println("🐢 ================================");
+        for (Offender offender : ranked.subList(0, Math.min(REPORT_SIZE, ranked.size()))) {
+            System.out.printf("🐢 %6.1fs lost  %3dx (%d missed, max %dms)  %s  %s%n",
+                    offender.total.sum() / 1000.0, offender.count.sum(), offender.misses.sum(),
+                    offender.max.get(), offender.pageMethod, offender.locator);
+        }
+        System.out.println("🐢 ================================\n");
+        writeCsv(ranked);
+    }
+
+    private static void writeCsv(List<Offender> ranked) {
+        File csv = new File(CSV_PATH);
+        csv.getParentFile().mkdirs();
+        try (PrintWriter out = new PrintWriter(new FileWriter(csv, StandardCharsets.UTF_8))) {
+            out.println("rank,page_method,locator,lookups,missed,total_ms,max_ms");
+            int rank = 1;
+            for (Offender offender : ranked) {
+                out.printf("%d,%s,\"%s\",%d,%d,%d,%d%n", rank++, offender.pageMethod,
+                        offender.locator.replace("\"", "\"\""), offender.count.sum(), offender.misses.sum(),
+                        offender.total.sum(), offender.max.get());
+            }
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not write " + CSV_PATH + ": " + e.getMessage());
+        }
+    }
+
+    private static final class Offender {
+        private final String pageMethod;
+        private final String locator;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        private Offender(String pageMethod, String locator) {
+            this.pageMethod = pageMethod;
+            this.locator = locator;
+        }
+
+        private void record(long millis, boolean missed) {
+            count.increment();
+            total.add(millis);
+            max.accumulateAndGet(millis, Math::max);
+            if (missed) {
+                misses.increment();
+            }
+        }
+    }
+}
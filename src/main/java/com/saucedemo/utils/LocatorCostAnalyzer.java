@@ -0,0 +1,318 @@
+package com.saucedemo.utils;
+
+import com.saucedemo.pages.CartPage;
+import com.saucedemo.pages.CheckoutPage;
+import com.saucedemo.pages.LoginPage;
+import com.saucedemo.pages.ProductsPage;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.pagefactory.Annotations;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Measures how long each page-object locator takes to resolve and suggests faster ones.
+ *
+ * Collects every @FindBy field of the page objects and every literal By.xxx("...") in
+ * src/main/java/com/saucedemo/pages (locators built by string concatenation are skipped),
+ * then walks SauceDemo through login, inventory, cart and checkout in each browser. Each
+ * locator is timed on the first page it matches (median of several findElements calls, with
+ * the implicit wait off). For matched elements the page is asked for an id, data-test or class
+ * based alternative; a suggestion is only reported if it finds exactly the same elements.
+ *
+ * Results are printed and written to test-output/metrics/locator-costs.csv. Run with:
+ *   mvn -q compile exec:java -Dexec.mainClass=com.saucedemo.utils.LocatorCostAnalyzer -Dexec.args="chrome firefox"
+ *
+ * Configuration (system properties):
+ *   locator.analyzer.runs    - timed lookups per locator (default: 15)
+ *   locator.analyzer.slow.ms - median above which a locator is flagged slow (default: 20)
+ *   locator.analyzer.sources - page-object source directory (default: src/main/java/com/saucedemo/pages)
+ */
+public class LocatorCostAnalyzer {
+
+    private static final int RUNS = Integer.getInteger("locator.analyzer.runs", 15);
+    private static final double SLOW_MS = Double.parseDouble(System.getProperty("locator.analyzer.slow.ms", "20"));
+    private static final String SOURCES = System.getProperty("locator.analyzer.sources", "src/main/java/com/saucedemo/pages");
+    private static final String BASE_URL = System.getProperty("base.url", "https://www.saucedemo.com/");
+    private static final String CSV_PATH = "test-output/metrics/locator-costs.csv";
+
+    private static final List<Class<?>> PAGES = List.of(LoginPage.class, ProductsPage.class, CartPage.class, CheckoutPage.class);
+    private static final Pattern INLINE_BY =
+            Pattern.compile("By\\.(id|name|className|cssSelector|xpath|tagName|linkText|partialLinkText)\\(\\s*\"((?:[^\"\\\\]|\\\\.)*)\"\\s*\\)");
+
+    // Cheaper locators that describe the matched elements: [kind, value] pairs, best first
+    private static final String SUGGEST =
+            "var els = arguments[0], out = [];"
+            + "var prefix = function(values) {"
+            + "  var p = values[0];"
+            + "  values.forEach(function(v) { while (v.indexOf(p) !== 0) { p = p.slice(0, -1); } });"
+            + "  return p; };"
+            + "var attr = function(name) { return els.map(function(e) { return e.getAttribute(name) || ''; }); };"
+            + "var ids = attr('id'), tests = attr('data-test');"
+            + "if (els.length === 1 && ids[0]) { out.push(['id', ids[0]]); }"
+            + "if (tests.every(function(v) { return v; })) {"
+            + "  var p = prefix(tests);"
+            + "  if (els.length === 1 || tests.every(function(v) { return v === tests[0]; })) {"
+            + "    out.push(['css', '[data-test=\"' + tests[0] + '\"]']); }"
+            + "  else if (p) { out.push(['css', '[data-test^=\"' + p + '\"]']); } }"
+            + "if (els.length > 1 && ids.every(function(v) { return v; })) {"
+            + "  var q = prefix(ids); if (q) { out.push(['css', '[id^=\"' + q + '\"]']); } }"
+            + "var tag = els[0].tagName.toLowerCase();"
+            + "if (els.every(function(e) { return e.tagName.toLowerCase() === tag; })) {"
+            + "  var common = Array.prototype.filter.call(els[0].classList, function(c) {"
+            + "    return els.every(function(e) { return e.classList.contains(c); }); });"
+            + "  if (common.length) { out.push(['css', tag + '.' + common.join('.')]); } }"
+            + "return out;";
+
+    private LocatorCostAnalyzer() {}
+
+    public static void main(String[] args) throws IOException {
+        List<String> browsers = args.length == 0 ? List.of("chrome") : Arrays.asList(args);
+        List<Candidate> candidates = collectLocators();
+        System.out.println("🔎 Analysing " + candidates.size() + " locators in " + browsers);
+
+        List<Result> results = new ArrayList<>();
+        for (String browser : browsers) {
+            WebDriver driver = DriverManager.createDriver(browser);
+            try {
+                driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+                results.addAll(analyze(driver, browser, candidates));
+            } finally {
+                DriverManager.closeSession(driver);
+            }
+        }
+
+        results.sort((a, b) -> Double.compare(b.medianMs, a.medianMs));
+        printReport(results);
+        writeCsv(results);
+    }
+
+    // ========== LOCATOR DISCOVERY ==========
+
+    private static List<Candidate> collectLocators() throws IOException {
+        Map<String, Candidate> found = new LinkedHashMap<>();
+        for (Class<?> page : PAGES) {
+            for (Field field : page.getDeclaredFields()) {
+                if (field.isAnnotationPresent(FindBy.class)) {
+                    By by = new Annotations(field).buildBy();
+                    found.putIfAbsent(by.toString(), new Candidate(by, page.getSimpleName() + "." + field.getName()));
+                }
+            }
+        }
+
+        Path sources = Paths.get(SOURCES);
+        if (!Files.isDirectory(sources)) {
+            System.out.println("⚠️ " + SOURCES + " not found - analysing @FindBy fields only");
+            return new ArrayList<>(found.values());
+        }
+        try (Stream<Path> files = Files.list(sources)) {
+            for (Path file : (Iterable<Path>) files.filter(f -> f.toString().endsWith(".java")).sorted()::iterator) {
+                List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+                for (int i = 0; i < lines.size(); i++) {
+                    Matcher matcher = INLINE_BY.matcher(lines.get(i));
+                    while (matcher.find()) {
+                        By by = toBy(matcher.group(1), unescape(matcher.group(2)));
+                        found.putIfAbsent(by.toString(), new Candidate(by, file.getFileName() + ":" + (i + 1)));
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(found.values());
+    }
+
+    private static By toBy(String kind, String value) {
+        switch (kind) {
+            case "id":
+                return By.id(value);
+            case "name":
+                return By.name(value);
+            case "className":
+                return By.className(value);
+            case "cssSelector":
+                return By.cssSelector(value);
+            case "xpath":
+                return By.xpath(value);
+            case "tagName":
+                return By.tagName(value);
+            case "linkText":
+                return By.linkText(value);
+            default:
+                return By.partialLinkText(value);
+        }
+    }
+
+    private static String unescape(String literal) {
+        return literal.replace("\\\"", "\"").replace("\\\\", "\\");
+    }
+
+    // ========== MEASUREMENT ==========
+
+    // Page states the locators are tried on, in the order a user reaches them
+    private static Map<String, Consumer<WebDriver>> pageStates() {
+        Map<String, Consumer<WebDriver>> states = new LinkedHashMap<>();
+        states.put("login", driver -> driver.get(BASE_URL));
+        states.put("inventory", driver -> {
+            new LoginPage(driver).login("standard_user", "secret_sauce");
+            ProductsPage products = new ProductsPage(driver);
+            products.addItemToCart(0);
+            products.addItemToCart(1);
+        });
+        states.put("cart", driver -> new ProductsPage(driver).goToCart());
+        states.put("checkout-info", driver -> new CartPage(driver).clickCheckout());
+        states.put("checkout-overview", driver -> {
+            CheckoutPage checkout = new CheckoutPage(driver);
+            checkout.fillInformation("Locator", "Analyzer", "12345");
+            checkout.clickContinue();
+        });
+        states.put("checkout-complete", driver -> new CheckoutPage(driver).finishCheckout());
+        return states;
+    }
+
+    private static List<Result> analyze(WebDriver driver, String browser, List<Candidate> candidates) {
+        List<Candidate> pending = new ArrayList<>(candidates);
+        List<Result> results = new ArrayList<>();
+
+        for (Map.Entry<String, Consumer<WebDriver>> state : pageStates().entrySet()) {
+            try {
+                state.getValue().accept(driver);
+            } catch (RuntimeException e) {
+                System.out.println("⚠️ [" + browser + "] could not reach " + state.getKey() + ": " + e.getMessage());
+                break;
+            }
+            for (Candidate candidate : new ArrayList<>(pending)) {
+                List<WebElement> matches = driver.findElements(candidate.by);
+                if (!matches.isEmpty()) {
+                    pending.remove(candidate);
+                    results.add(measure(driver, browser, state.getKey(), candidate, matches));
+                }
+            }
+        }
+
+        for (Candidate candidate : pending) {
+            results.add(new Result(browser, "-", candidate, 0, median(driver, candidate.by), null, 0));
+        }
+        return results;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Result measure(WebDriver driver, String browser, String state, Candidate candidate, List<WebElement> matches) {
+        double original = median(driver, candidate.by);
+
+        By best = null;
+        double bestMs = original;
+        List<List<String>> suggestions = (List<List<String>>) ((JavascriptExecutor) driver).executeScript(SUGGEST, matches);
+        for (List<String> suggestion : suggestions) {
+            By by = "id".equals(suggestion.get(0)) ? By.id(suggestion.get(1)) : By.cssSelector(suggestion.get(1));
+            if (by.toString().equals(candidate.by.toString()) || !driver.findElements(by).equals(matches)) {
+                continue;
+            }
+            double ms = median(driver, by);
+            if (ms < bestMs) {
+                best = by;
+                bestMs = ms;
+            }
+        }
+        return new Result(browser, state, candidate, matches.size(), original, best, bestMs);
+    }
+
+    private static double median(WebDriver driver, By by) {
+        double[] samples = new double[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            driver.findElements(by);
+            samples[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(samples);
+        return samples[RUNS / 2];
+    }
+
+    // ========== REPORTING ==========
+
+    private static void printReport(List<Result> results) {
+        System.out.println("\n🔎 ================================");
+        System.out.println("🔎 LOCATOR COSTS (median of " + RUNS + " lookups, slow > " + SLOW_MS + "ms)");
+        System.out.println("🔎 ================================");
+        for (Result result : results) {
+            String flag = result.matches == 0 ? "❔" : result.medianMs > SLOW_MS ? "🐢" : "  ";
+            System.out.printf("%s %-8s %6.1fms  %-18s %-32s %s%n", flag, result.browser, result.medianMs,
+                    result.state, result.candidate.source, result.candidate.by);
+            if (result.suggestion != null) {
+                System.out.printf("     ↳ %s  %.1fms, same %d element(s)%n", result.suggestion, result.suggestionMs, result.matches);
+            }
+        }
+        long unmatched = results.stream().filter(r -> r.matches == 0).count();
+        if (unmatched > 0) {
+            System.out.println("❔ " + unmatched + " locator(s) matched nothing on any page visited");
+        }
+        System.out.println("🔎 ================================\n");
+    }
+
+    private static void writeCsv(List<Result> results) {
+        File csv = new File(CSV_PATH);
+        csv.getParentFile().mkdirs();
+        try (PrintWriter out = new PrintWriter(new FileWriter(csv, StandardCharsets.UTF_8))) {
+            out.println("browser,page,source,locator,matches,median_ms,slow,suggestion,suggestion_ms");
+            for (Result result : results) {
+                out.printf("%s,%s,%s,\"%s\",%d,%.2f,%s,\"%s\",%s%n", result.browser, result.state,
+                        result.candidate.source, result.candidate.by.toString().replace("\"", "\"\""), result.matches,
+                        result.medianMs, result.matches > 0 && result.medianMs > SLOW_MS,
+                        result.suggestion == null ? "" : result.suggestion.toString().replace("\"", "\"\""),
+                        result.suggestion == null ? "" : String.format("%.2f", result.suggestionMs));
+            }
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not write " + CSV_PATH + ": " + e.getMessage());
+        }
+    }
+
+    private static final class Candidate {
+        private final By by;
+        private final String source;
+
+        private Candidate(By by, String source) {
+            this.by = by;
+            this.source = source;
+        }
+    }
+
+    private static final class Result {
+        private final String browser;
+        private final String state;
+        private final Candidate candidate;
+        private final int matches;
+        private final double medianMs;
+        private final By suggestion;
+        private final double suggestionMs;
+
+        private Result(String browser, String state, Candidate candidate, int matches, double medianMs,
+                       By suggestion, double suggestionMs) {
+            this.browser = browser;
+            this.state = state;
+            this.candidate = candidate;
+            this.matches = matches;
+            this.medianMs = medianMs;
+            this.suggestion = suggestion;
+            this.suggestionMs = suggestionMs;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.saucedemo.utils;
+
+import java.util.function.Supplier;
+
+/**
+ * Deliberate pauses versus real waits, selected per run with -Dexecution.profile=NAME.
+ *
+ *   visual - keeps the fixed step/action pauses so a demo can be followed on screen (default)
+ *   fast   - pauses become no-ops; tests rely on condition waits only
+ *
+ * Every pause and every condition wait is timed, and the split is printed at suite end
+ * so a run shows how much wall time went to sleeping rather than waiting for the app.
+ */
+public class Pacing {
+
+    private static final String PROFILE = System.getProperty("execution.profile", "visual").toLowerCase();
+    private static final boolean FAST = "fast".equals(PROFILE);
+
+    static {
+        if (!FAST && !"visual".equals(PROFILE)) {
+            System.out.println("⚠️ Unknown execution profile: " + PROFILE + ". Using visual.");
+        }
+    }
+
+    private Pacing() {}
+
+    public static boolean isFast() {
+        return FAST;
+    }
+
+    // Fixed pause for visual pacing; skipped in the fast profile
+    public static void pause(long milliseconds) {
+        if (FAST) {
+            PerformanceMetrics.recordTime("pacing.sleep.skipped", milliseconds);
+            return;
+        }
+        long start = System.currentTimeMillis();
+        try {
+            Thread.sleep(milliseconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            PerformanceMetrics.recordTime("pacing.sleep", System.currentTimeMillis() - start);
+        }
+    }
+
+    // Time a condition wait, whether it succeeds or times out
+    public static <T> T timeWait(Supplier<T> wait) {
+        long start = System.currentTimeMillis();
+        try {
+            return wait.get();
+        } finally {
+            PerformanceMetrics.recordTime("pacing.wait", System.currentTimeMillis() - start);
+        }
+    }
+
+    public static void printSummary() {
+        long slept = PerformanceMetrics.getTotalTime("pacing.sleep");
+        long waited = PerformanceMetrics.getTotalTime("pacing.wait");
+        long skipped = PerformanceMetrics.getTotalTime("pacing.sleep.skipped");
+
+        System.out.println("\n⏸️  Execution profile: " + PROFILE);
+        System.out.printf("⏸️  Deliberate sleeps: %.1fs (%d pauses)%n", slept / 1000.0, PerformanceMetrics.getTimerCount("pacing.sleep"));
+        System.out.printf("⏳ Condition waits:   %.1fs (%d waits)%n", waited / 1000.0, PerformanceMetrics.getTimerCount("pacing.wait"));
+        if (skipped > 0) {
+            System.out.printf("⚡ Sleeps skipped:    %.1fs%n", skipped / 1000.0);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.saucedemo.utils;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide counters and timers for the framework's own overhead
+ * (driver startup, pool leases, waits, ...). Thread-safe; printed once at suite end.
+ */
+public class PerformanceMetrics {
+
+    private static final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private static final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private static final Map<String, Timer> samples = new ConcurrentHashMap<>();
+
+    private PerformanceMetrics() {}
+
+    // ========== COUNTERS ==========
+
+    public static void increment(String name) {
+        add(name, 1);
+    }
+
+    public static void add(String name, long delta) {
+        counters.computeIfAbsent(name, k -> new LongAdder()).add(delta);
+    }
+
+    public static long getCount(String name) {
+        LongAdder counter = counters.get(name);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    // ========== TIMERS ==========
+
+    public static void recordTime(String name, long millis) {
+        timers.computeIfAbsent(name, k -> new Timer()).record(millis);
+    }
+
+    public static long getTotalTime(String name) {
+        Timer timer = timers.get(name);
+        return timer == null ? 0 : timer.total.sum();
+    }
+
+    public static long getTimerCount(String name) {
+        Timer timer = timers.get(name);
+        return timer == null ? 0 : timer.count.sum();
+    }
+
+    // ========== SAMPLES (unitless gauges such as process counts) ==========
+
+    public static void recordSample(String name, long value) {
+        samples.computeIfAbsent(name, k -> new Timer()).record(value);
+    }
+
+    // ========== REPORTING ==========
+
+    public static void printSummary() {
+        if (counters.isEmpty() && timers.isEmpty() && samples.isEmpty()) {
+            return;
+        }
+
+        System.out.println("\n⏱️  ================================");
+        System.out.println("⏱️  FRAMEWORK PERFORMANCE METRICS");
+        System.out.println("⏱️  ================================");
+
+        new TreeMap<>(timers).forEach((name, timer) -> {
+            long count = timer.count.sum();
+            long total = timer.total.sum();
+            System.out.printf("⏱️  %-40s count=%d total=%dms avg=%dms max=%dms%n",
+                    name, count, total, count == 0 ? 0 : total / count, timer.max.get());
+        });
+        new TreeMap<>(samples).forEach((name, sample) -> {
+            long count = sample.count.sum();
+            System.out.printf("📈 %-40s samples=%d avg=%.1f max=%d%n",
+                    name, count, count == 0 ? 0.0 : (double) sample.total.sum() / count, sample.max.get());
+        });
+        new TreeMap<>(counters).forEach((name, counter) ->
+                System.out.printf("🔢 %-40s %d%n", name, counter.sum()));
+
+        System.out.println("⏱️  ================================\n");
+    }
+
+    private static final class Timer {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        private void record(long millis) {
+            count.increment();
+            total.add(millis);
+            max.accumulateAndGet(millis, Math::max);
+        }
+    }
+}
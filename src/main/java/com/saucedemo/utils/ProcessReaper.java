@@ -0,0 +1,375 @@
+package com.saucedemo.utils;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongPredicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Tracks the browser and driver-service processes this framework starts and kills the
+ * ones left behind.
+ *
+ * Orphans are reaped when a session becomes unreachable (quit fails or its owning test
+ * thread has died), at JVM shutdown, and at the start of the next run: every tracked
+ * process is recorded in a shared file in java.io.tmpdir, so a run can clean up after a
+ * previous JVM that was killed before its shutdown hooks ran. Each reap is logged with
+ * the resident memory it freed (read from /proc on Linux).
+ */
+public class ProcessReaper {
+
+    private static final Path REGISTRY = Paths.get(System.getProperty("java.io.tmpdir"), "saucedemo-tracked-processes.txt");
+    private static final long SELF_PID = ProcessHandle.current().pid();
+    private static final long ORPHAN_GRACE_SECONDS = 5;
+    private static final String UNKNOWN_START = "-";
+
+    private static final Map<WebDriver, Long> browserPids = new IdentityHashMap<>();
+    private static final Map<WebDriver, Thread> owners = new IdentityHashMap<>();
+
+    private static final ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "process-reaper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        sweeper.scheduleWithFixedDelay(ProcessReaper::reapAbandonedSessions, 30, 30, TimeUnit.SECONDS);
+    }
+
+    private ProcessReaper() {}
+
+    // ========== REGISTRATION ==========
+
+    // Remember the browser process behind a new session, plus any new driver service processes
+    public static void register(WebDriver driver) {
+        browserPid(driver).ifPresent(pid -> {
+            synchronized (browserPids) {
+                browserPids.put(driver, pid);
+            }
+            persist(pid);
+        });
+        ProcessHandle.current().children()
+                .filter(ProcessReaper::isDriverService)
+                .forEach(service -> persist(service.pid()));
+    }
+
+    // The thread that is using this session; if it dies without quitting, the session is reaped
+    public static void assignOwner(WebDriver driver, Thread owner) {
+        synchronized (owners) {
+            owners.put(driver, owner);
+        }
+    }
+
+    public static void releaseOwner(WebDriver driver) {
+        synchronized (owners) {
+            owners.remove(driver);
+        }
+    }
+
+    // Called after quit(): the browser should be gone, kill it if it is still around shortly after
+    public static void sessionQuit(WebDriver driver) {
+        Long pid = forget(driver);
+        if (pid != null) {
+            sweeper.schedule(() -> {
+                ProcessHandle.of(pid).filter(ProcessHandle::isAlive)
+                        .ifPresent(process -> reap(process, "browser still running after quit"));
+                unpersist(pid);
+            }, ORPHAN_GRACE_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    // Called when a session cannot be reached any more
+    public static void sessionUnreachable(WebDriver driver) {
+        Long pid = forget(driver);
+        if (pid != null) {
+            ProcessHandle.of(pid).ifPresent(process -> reap(process, "session unreachable"));
+            unpersist(pid);
+        }
+    }
+
+    // Average resident memory of a tracked browser and its child processes; 0 until measurable
+    public static long averageSessionResidentKb() {
+        List<Long> pids;
+        synchronized (browserPids) {
+            pids = new ArrayList<>(browserPids.values());
+        }
+        long totalKb = 0;
+        int measured = 0;
+        for (Long pid : pids) {
+            Optional<ProcessHandle> process = ProcessHandle.of(pid);
+            if (process.isEmpty()) {
+                continue;
+            }
+            long kb = residentKb(pid) + process.get().descendants().mapToLong(child -> residentKb(child.pid())).sum();
+            if (kb > 0) {
+                totalKb += kb;
+                measured++;
+            }
+        }
+        return measured == 0 ? 0 : totalKb / measured;
+    }
+
+    // ========== REAPING ==========
+
+    // JVM shutdown: kill every browser and driver service still running for this JVM
+    public static void reapAll() {
+        List<Long> pids;
+        synchronized (browserPids) {
+            pids = new ArrayList<>(browserPids.values());
+            browserPids.clear();
+        }
+        for (Long pid : pids) {
+            ProcessHandle.of(pid).filter(ProcessHandle::isAlive)
+                    .ifPresent(process -> reap(process, "JVM shutdown"));
+        }
+        ProcessHandle.current().children()
+                .filter(ProcessReaper::isDriverService)
+                .forEach(process -> reap(process, "JVM shutdown"));
+        // Everything this JVM started is gone now
+        withRegistry(lines -> removeEntries(lines, SELF_PID, null));
+    }
+
+    // Start of run: kill processes recorded by JVMs that are no longer alive
+    public static void reapPreviousRuns() {
+        withRegistry(lines -> {
+            List<Entry> orphaned = new ArrayList<>();
+            List<String> kept = pruneDeadOwners(lines,
+                    ownerPid -> ProcessHandle.of(ownerPid).map(ProcessHandle::isAlive).orElse(false), orphaned);
+            // Only kill the exact process we recorded, not a later one that reused the PID;
+            // without a recorded start time, the PID must at least still be a browser or driver.
+            for (Entry entry : orphaned) {
+                ProcessHandle.of(entry.pid)
+                        .filter(ProcessHandle::isAlive)
+                        .filter(process -> entry.hasUnknownStart()
+                                ? isBrowserOrDriverService(process)
+                                : startInstant(process).equals(entry.started))
+                        .ifPresent(process -> reap(process, "left behind by JVM " + entry.ownerPid));
+            }
+            return kept;
+        });
+    }
+
+    // Keeps the lines whose owner JVM is alive and collects the others for reaping; a dead owner's
+    // entries are dropped whether or not anything is killed, and malformed lines are dropped too
+    static List<String> pruneDeadOwners(List<String> lines, LongPredicate ownerAlive, List<Entry> orphaned) {
+        List<String> kept = new ArrayList<>();
+        for (String line : lines) {
+            Entry entry = Entry.parse(line);
+            if (entry == null) {
+                continue;
+            }
+            if (ownerAlive.test(entry.ownerPid)) {
+                kept.add(line);
+            } else {
+                orphaned.add(entry);
+            }
+        }
+        return kept;
+    }
+
+    // Removes the owner's entry for one process, or all of its entries when pid is null
+    static List<String> removeEntries(List<String> lines, long ownerPid, Long pid) {
+        List<String> kept = new ArrayList<>();
+        for (String line : lines) {
+            Entry entry = Entry.parse(line);
+            if (entry != null && !(entry.ownerPid == ownerPid && (pid == null || entry.pid == pid))) {
+                kept.add(line);
+            }
+        }
+        return kept;
+    }
+
+    private static void reapAbandonedSessions() {
+        List<WebDriver> abandoned = new ArrayList<>();
+        synchronized (owners) {
+            owners.forEach((driver, owner) -> {
+                if (!owner.isAlive()) {
+                    abandoned.add(driver);
+                }
+            });
+            abandoned.forEach(owners::remove);
+        }
+        for (WebDriver driver : abandoned) {
+            System.out.println("⚠️ Test thread died without quitting its browser - reclaiming session");
+            DriverManager.reclaim(driver);
+        }
+    }
+
+    private static void reap(ProcessHandle process, String reason) {
+        List<ProcessHandle> tree = new ArrayList<>();
+        process.descendants().forEach(tree::add);
+        tree.add(process);
+
+        long freedKb = 0;
+        for (ProcessHandle handle : tree) {
+            freedKb += residentKb(handle.pid());
+        }
+        // Children first so the browser cannot respawn them
+        for (ProcessHandle handle : tree) {
+            handle.destroyForcibly();
+        }
+
+        PerformanceMetrics.increment("reaper.processes.killed");
+        PerformanceMetrics.add("reaper.memory.freed.kb", freedKb);
+        System.out.println("🧹 Reaped " + process.info().command().orElse("pid " + process.pid())
+                + " (" + tree.size() + " processes, " + reason + ")"
+                + (freedKb > 0 ? " - freed ~" + (freedKb / 1024) + " MB" : ""));
+    }
+
+    // ========== PROCESS LOOKUP ==========
+
+    @SuppressWarnings("unchecked")
+    private static Optional<Long> browserPid(WebDriver driver) {
+        try {
+            if (driver instanceof HasCapabilities) {
+                Capabilities caps = ((HasCapabilities) driver).getCapabilities();
+                Object firefoxPid = caps.getCapability("moz:processID");
+                if (firefoxPid instanceof Number) {
+                    return Optional.of(((Number) firefoxPid).longValue());
+                }
+            }
+            if (driver instanceof HasCdp) {
+                Map<String, Object> info = ((HasCdp) driver).executeCdpCommand("SystemInfo.getProcessInfo", Map.of());
+                for (Map<String, Object> process : (List<Map<String, Object>>) info.get("processInfo")) {
+                    if ("browser".equals(process.get("type"))) {
+                        return Optional.of(((Number) process.get("id")).longValue());
+                    }
+                }
+            }
+        } catch (Exception e) {
+            System.out.println("⚠️ Could not determine browser process id: " + e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isBrowserOrDriverService(ProcessHandle process) {
+        String command = process.info().command().orElse("").toLowerCase();
+        return isDriverService(process) || command.contains("chrome") || command.contains("firefox")
+                || command.contains("msedge");
+    }
+
+    private static boolean isDriverService(ProcessHandle process) {
+        String command = process.info().command().orElse("").toLowerCase();
+        return command.contains("chromedriver") || command.contains("geckodriver") || command.contains("msedgedriver");
+    }
+
+    private static long residentKb(long pid) {
+        Path status = Paths.get("/proc", String.valueOf(pid), "status");
+        try {
+            for (String line : Files.readAllLines(status, StandardCharsets.UTF_8)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Not Linux, or the process already exited
+        }
+        return 0;
+    }
+
+    private static Long forget(WebDriver driver) {
+        releaseOwner(driver);
+        synchronized (browserPids) {
+            return browserPids.remove(driver);
+        }
+    }
+
+    // ========== REGISTRY FILE ==========
+
+    private static void persist(long pid) {
+        String started = ProcessHandle.of(pid).map(ProcessReaper::startInstant).orElse(UNKNOWN_START);
+        String entry = new Entry(SELF_PID, pid, started).format();
+        withRegistry(lines -> {
+            if (!lines.contains(entry)) {
+                lines.add(entry);
+            }
+            return lines;
+        });
+    }
+
+    // The process is gone (quit cleanly or reaped), so the next run has nothing to check
+    private static void unpersist(long pid) {
+        withRegistry(lines -> removeEntries(lines, SELF_PID, pid));
+    }
+
+    // Start time as recorded in the registry; "-" when the OS does not report it
+    private static String startInstant(ProcessHandle process) {
+        return process.info().startInstant().map(Instant::toString).orElse(UNKNOWN_START);
+    }
+
+    // Read-modify-write the registry under a file lock shared with other JVMs on this agent
+    private static synchronized void withRegistry(UnaryOperator<List<String>> update) {
+        try (RandomAccessFile file = new RandomAccessFile(REGISTRY.toFile(), "rw");
+             FileChannel channel = file.getChannel();
+             FileLock lock = channel.lock()) {
+            byte[] content = new byte[(int) file.length()];
+            file.readFully(content);
+            List<String> lines = new ArrayList<>();
+            for (String line : new String(content, StandardCharsets.UTF_8).split("\n")) {
+                if (!line.isBlank()) {
+                    lines.add(line.trim());
+                }
+            }
+
+            byte[] updated = (String.join("\n", update.apply(lines)) + "\n").getBytes(StandardCharsets.UTF_8);
+            file.setLength(0);
+            file.write(updated);
+        } catch (IOException | RuntimeException e) {
+            // Also runs from DriverManager's static initializer, where an exception would fail every test
+            System.out.println("⚠️ Could not update process registry " + REGISTRY + ": " + e.getMessage());
+        }
+    }
+
+    // One registry line: "<owner JVM pid> <process pid> <start instant, or - when unknown>"
+    static final class Entry {
+        final long ownerPid;
+        final long pid;
+        final String started;
+
+        Entry(long ownerPid, long pid, String started) {
+            this.ownerPid = ownerPid;
+            this.pid = pid;
+            this.started = started;
+        }
+
+        // Null for a truncated or corrupt line
+        static Entry parse(String line) {
+            String[] parts = line.trim().split(" ");
+            if (parts.length != 3 || parts[2].isEmpty()) {
+                return null;
+            }
+            try {
+                return new Entry(Long.parseLong(parts[0]), Long.parseLong(parts[1]), parts[2]);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        boolean hasUnknownStart() {
+            return UNKNOWN_START.equals(started);
+        }
+
+        String format() {
+            return ownerPid + " " + pid + " " + started;
+        }
+    }
+}
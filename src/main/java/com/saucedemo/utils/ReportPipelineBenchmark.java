@@ -0,0 +1,128 @@
+package com.saucedemo.utils;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+
+/**
+ * Measures report logging throughput with 1, 4 and 16 test threads, through the event queue
+ * (report.async=true) and through the old lock-per-call path (report.async=false).
+ *
+ * Each thread creates its own test and logs report.benchmark.events lines to it, three info
+ * lines for every pass line. "Publish" is the rate at which the test threads get control back;
+ * "applied" includes waiting for the consumer to write every event into ExtentReports. No
+ * browser is needed. Results are printed and written to test-output/metrics/report-pipeline.csv.
+ * Run with:
+ *   mvn -q compile exec:java -Dexec.mainClass=com.saucedemo.utils.ReportPipelineBenchmark -Dexec.args="1 4 16"
+ *
+ * Configuration (system properties):
+ *   report.benchmark.events - lines logged per thread (default: 5000)
+ *   report.queue.capacity   - as for ExtentReportManager; lower it to see drops and backpressure
+ */
+public class ReportPipelineBenchmark {
+
+    private static final int EVENTS = Integer.getInteger("report.benchmark.events", 5000);
+    private static final String CSV_PATH = "test-output/metrics/report-pipeline.csv";
+
+    public static void main(String[] args) throws Exception {
+        // Console echo would dominate the timings; must be set before ExtentReportManager loads
+        System.setProperty("report.console", "false");
+
+        List<Integer> threadCounts = new ArrayList<>();
+        for (String arg : args.length == 0 ? new String[]{"1", "4", "16"} : args) {
+            threadCounts.add(Integer.parseInt(arg));
+        }
+        ExtentReportManager.initializeReport();
+
+        // Warm up both paths so the first round is not paying for class loading and JIT
+        for (boolean async : new boolean[]{false, true}) {
+            ExtentReportManager.setAsync(async);
+            run(async, 4, "warmup");
+        }
+
+        List<String> rows = new ArrayList<>();
+        System.out.println("\n📊 REPORT PIPELINE THROUGHPUT (" + EVENTS + " lines per thread)");
+        System.out.printf("   %-6s %7s %16s %16s %9s %12s%n",
+                "mode", "threads", "publish ev/s", "applied ev/s", "dropped", "backpressure");
+        for (int threads : threadCounts) {
+            for (boolean async : new boolean[]{false, true}) {
+                ExtentReportManager.setAsync(async);
+                rows.add(run(async, threads, "t" + threads));
+            }
+        }
+        writeCsv(rows);
+        System.out.println("📁 Written to " + CSV_PATH);
+        System.exit(0);
+    }
+
+    private static String run(boolean async, int threads, String round) throws Exception {
+        long droppedBefore = ExtentReportManager.droppedEvents();
+        long backpressureBefore = ExtentReportManager.backpressuredEvents();
+        CyclicBarrier start = new CyclicBarrier(threads + 1);
+        CyclicBarrier end = new CyclicBarrier(threads + 1);
+
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            String testName = "bench_" + (async ? "async" : "sync") + "_" + round + "_" + t;
+            Thread worker = new Thread(() -> {
+                ExtentReportManager.createTest(testName, "chrome");
+                await(start);
+                for (int i = 0; i < EVENTS; i++) {
+                    if (i % 4 == 3) {
+                        ExtentReportManager.logPass(testName, "chrome", "step " + i);
+                    } else {
+                        ExtentReportManager.logInfo(testName, "chrome", "step " + i);
+                    }
+                }
+                await(end);
+            }, "report-bench-" + t);
+            workers.add(worker);
+            worker.start();
+        }
+
+        await(start);
+        long began = System.nanoTime();
+        await(end);
+        long published = System.nanoTime() - began;
+        ExtentReportManager.awaitPending();
+        long applied = System.nanoTime() - began;
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        long total = (long) threads * EVENTS;
+        long dropped = ExtentReportManager.droppedEvents() - droppedBefore;
+        long backpressure = ExtentReportManager.backpressuredEvents() - backpressureBefore;
+        double publishRate = total / (published / 1e9);
+        double appliedRate = (total - dropped) / (applied / 1e9);
+        String mode = async ? "async" : "sync";
+        if (!"warmup".equals(round)) {
+            System.out.printf("   %-6s %7d %16.0f %16.0f %9d %12d%n",
+                    mode, threads, publishRate, appliedRate, dropped, backpressure);
+        }
+        return String.format("%s,%d,%d,%.1f,%.0f,%.1f,%.0f,%d,%d",
+                mode, threads, total, published / 1e6, publishRate, applied / 1e6, appliedRate, dropped, backpressure);
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await();
+        } catch (Exception e) {
+            throw new RuntimeException("Benchmark thread interrupted", e);
+        }
+    }
+
+    private static void writeCsv(List<String> rows) {
+        new File(CSV_PATH).getParentFile().mkdirs();
+        try (PrintWriter out = new PrintWriter(new FileWriter(CSV_PATH))) {
+            out.println("mode,threads,events,publish_ms,publish_events_per_sec,applied_ms,applied_events_per_sec,dropped,backpressure");
+            rows.forEach(out::println);
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not write " + CSV_PATH + ": " + e.getMessage());
+        }
+    }
+}
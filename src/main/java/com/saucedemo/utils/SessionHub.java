@@ -0,0 +1,273 @@
+package com.saucedemo.utils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Localhost WebDriver endpoint that shares one JVM's browser pool with every test JVM on
+ * the machine (for example forked surefire JVMs).
+ *
+ * Test JVMs run with -Dhub.url=http://localhost:4444 and DriverManager opens their
+ * sessions here with RemoteWebDriver. New-session requests lease a browser from
+ * DriverPool in the hub JVM, so per-browser capacity, queueing, reuse and reset all come
+ * from the pool; every other command is forwarded to the driver service that owns the
+ * session, and deleting the session returns the browser to the pool instead of quitting it.
+ * Browsers are launched with the hub JVM's capability profile; only the requested
+ * browserName is honoured.
+ *
+ * GET /status reports per-browser capacity, leased sessions, queue depth and lease latency.
+ *
+ * Start it with:
+ *   mvn -q compile exec:java -Dexec.mainClass=com.saucedemo.utils.SessionHub
+ *
+ * Configuration (system properties):
+ *   hub.port                 - port to listen on (default: 4444)
+ *   hub.session.idle.timeout - seconds without commands before a lease is reclaimed (default: 300)
+ *   driver.pool.size[.BROWSER], driver.pool.timeout - capacity and queueing, see DriverPool
+ */
+public class SessionHub {
+
+    private static final int PORT = Integer.getInteger("hub.port", 4444);
+    private static final long IDLE_TIMEOUT_MS = Integer.getInteger("hub.session.idle.timeout", 300) * 1000L;
+
+    private static final Json JSON = new Json();
+    private static final HttpClient upstream = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    private static final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicInteger> queued = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicInteger> leased = new ConcurrentHashMap<>();
+
+    private SessionHub() {}
+
+    public static void main(String[] args) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", PORT), 0);
+        // Leases block while a browser is queued, so every request gets its own thread
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", SessionHub::handle);
+        server.start();
+
+        ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hub-idle-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(SessionHub::reclaimIdleLeases, 30, 30, TimeUnit.SECONDS);
+
+        System.out.println("🚀 Session hub listening on http://localhost:" + PORT);
+    }
+
+    // ========== ROUTING ==========
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try {
+            // Accept both http://host:port and the classic http://host:port/wd/hub base URLs
+            String path = exchange.getRequestURI().getRawPath().replaceFirst("^/wd/hub", "");
+            String method = exchange.getRequestMethod();
+            String[] segments = path.replaceAll("^/+|/+$", "").split("/");
+
+            if ("GET".equals(method) && "status".equals(segments[0])) {
+                respond(exchange, 200, Map.of("value", status()));
+            } else if ("POST".equals(method) && segments.length == 1 && "session".equals(segments[0])) {
+                newSession(exchange);
+            } else if ("session".equals(segments[0]) && segments.length >= 2) {
+                Lease lease = leases.get(segments[1]);
+                if (lease == null) {
+                    respondError(exchange, 404, "invalid session id", "No active session " + segments[1]);
+                } else if ("DELETE".equals(method) && segments.length == 2) {
+                    endLease(segments[1]);
+                    respond(exchange, 200, Map.of("value", Map.of()));
+                } else {
+                    forward(exchange, lease, path.substring(path.indexOf(segments[1]) + segments[1].length()));
+                }
+            } else {
+                respondError(exchange, 404, "unknown command", "Unknown command " + method + " " + path);
+            }
+        } catch (Exception e) {
+            respondError(exchange, 500, "unknown error", String.valueOf(e.getMessage()));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // ========== SESSIONS ==========
+
+    private static void newSession(HttpExchange exchange) throws IOException {
+        String browser = requestedBrowser(JSON.toType(readBody(exchange), Json.MAP_TYPE));
+        AtomicInteger waiting = queued.computeIfAbsent(browser, k -> new AtomicInteger());
+        long start = System.currentTimeMillis();
+
+        Lease lease;
+        waiting.incrementAndGet();
+        try {
+            WebDriver driver = DriverPool.lease(browser);
+            try {
+                lease = new Lease(browser, driver);
+            } catch (RuntimeException e) {
+                DriverPool.discard(driver);
+                throw e;
+            }
+        } catch (RuntimeException e) {
+            respondError(exchange, 500, "session not created", String.valueOf(e.getMessage()));
+            return;
+        } finally {
+            waiting.decrementAndGet();
+        }
+        PerformanceMetrics.recordTime("hub.lease." + browser, System.currentTimeMillis() - start);
+        leased.computeIfAbsent(browser, k -> new AtomicInteger()).incrementAndGet();
+
+        String id = UUID.randomUUID().toString().replace("-", "");
+        leases.put(id, lease);
+        System.out.println("🎟️ Hub leased " + browser + " session " + id + " in " + (System.currentTimeMillis() - start) + "ms");
+
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("sessionId", id);
+        value.put("capabilities", ((HasCapabilities) lease.driver).getCapabilities().asMap());
+        respond(exchange, 200, Map.of("value", value));
+    }
+
+    private static void endLease(String id) {
+        Lease lease = leases.remove(id);
+        if (lease != null) {
+            leased.get(lease.browser).decrementAndGet();
+            DriverPool.release(lease.driver);
+        }
+    }
+
+    // A test JVM that died mid-test never deletes its session
+    private static void reclaimIdleLeases() {
+        long now = System.currentTimeMillis();
+        leases.forEach((id, lease) -> {
+            if (now - lease.lastUsed > IDLE_TIMEOUT_MS) {
+                System.out.println("⚠️ Reclaiming idle hub session " + id);
+                endLease(id);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String requestedBrowser(Map<String, Object> request) {
+        Map<String, Object> capabilities = (Map<String, Object>) request.getOrDefault("capabilities", Map.of());
+        Object name = ((Map<String, Object>) capabilities.getOrDefault("alwaysMatch", Map.of())).get("browserName");
+        List<Map<String, Object>> firstMatch = (List<Map<String, Object>>) capabilities.get("firstMatch");
+        if (name == null && firstMatch != null && !firstMatch.isEmpty()) {
+            name = firstMatch.get(0).get("browserName");
+        }
+
+        String browser = name == null ? "chrome" : name.toString().toLowerCase();
+        return browser.contains("edge") ? "edge" : browser;
+    }
+
+    private static Map<String, Object> status() {
+        Map<String, Object> browsers = new TreeMap<>();
+        for (String browser : queued.keySet()) {
+            long leases = PerformanceMetrics.getTimerCount("hub.lease." + browser);
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("capacity", DriverPool.capacity(browser));
+            stats.put("leased", leased.getOrDefault(browser, new AtomicInteger()).get());
+            stats.put("queueDepth", queued.get(browser).get());
+            stats.put("leases", leases);
+            stats.put("avgLeaseLatencyMs", leases == 0 ? 0 : PerformanceMetrics.getTotalTime("hub.lease." + browser) / leases);
+            browsers.put(browser, stats);
+        }
+
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("ready", true);
+        status.put("message", "Session hub ready");
+        status.put("browsers", browsers);
+        return status;
+    }
+
+    // ========== FORWARDING ==========
+
+    private static void forward(HttpExchange exchange, Lease lease, String commandPath) throws Exception {
+        lease.lastUsed = System.currentTimeMillis();
+        String body = readBody(exchange);
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(lease.sessionUrl + commandPath))
+                .header("Content-Type", "application/json; charset=utf-8");
+        switch (exchange.getRequestMethod()) {
+            case "POST":
+                request.POST(HttpRequest.BodyPublishers.ofString(body.isEmpty() ? "{}" : body));
+                break;
+            case "DELETE":
+                request.DELETE();
+                break;
+            default:
+                request.GET();
+        }
+
+        HttpResponse<byte[]> response = upstream.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(response.statusCode(), response.body().length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response.body());
+        }
+        lease.lastUsed = System.currentTimeMillis();
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, Object payload) throws IOException {
+        byte[] bytes = JSON.toJson(payload).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void respondError(HttpExchange exchange, int status, String error, String message) throws IOException {
+        respond(exchange, status, Map.of("value", Map.of("error", error, "message", message, "stacktrace", "")));
+    }
+
+    private static final class Lease {
+        private final String browser;
+        private final WebDriver driver;
+        private final String sessionUrl;
+        private volatile long lastUsed = System.currentTimeMillis();
+
+        private Lease(String browser, WebDriver driver) {
+            this.browser = browser;
+            this.driver = driver;
+
+            // Pool sessions talk to a local driver service over HTTP; commands go straight there
+            RemoteWebDriver remote = (RemoteWebDriver) driver;
+            CommandExecutor executor = remote.getCommandExecutor();
+            if (!(executor instanceof HttpCommandExecutor)) {
+                throw new IllegalStateException("Cannot forward commands for " + browser + " session");
+            }
+            String base = ((HttpCommandExecutor) executor).getAddressOfRemoteServer().toString().replaceAll("/$", "");
+            this.sessionUrl = base + "/session/" + remote.getSessionId();
+        }
+    }
+}
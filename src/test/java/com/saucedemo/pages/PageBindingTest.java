@@ -0,0 +1,218 @@
+package com.saucedemo.pages;
+
+import com.saucedemo.binding.LazyWebElement;
+import com.saucedemo.binding.LazyWebElementList;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The generated <Page>_Binding classes, checked against a recording stub driver: every @FindBy
+ * field gets the locator PageFactory would have built, nothing is looked up at construction,
+ * and single-element fields are cached until they go stale.
+ */
+public class PageBindingTest {
+
+    // ========== STUBS ==========
+
+    // Records the commands a page sends; findElement answers through the finder
+    private static final class StubDriver implements InvocationHandler {
+        private final Function<By, WebElement> finder;
+        private final List<Object> scriptResult;
+        private final List<By> lookups = new ArrayList<>();
+        private int scripts;
+
+        private StubDriver(Function<By, WebElement> finder, List<Object> scriptResult) {
+            this.finder = finder;
+            this.scriptResult = scriptResult;
+        }
+
+        // Without a script result the driver is not a JavascriptExecutor, so nothing is prefetched
+        private WebDriver driver() {
+            Class<?>[] types = scriptResult == null
+                    ? new Class<?>[] {WebDriver.class}
+                    : new Class<?>[] {WebDriver.class, JavascriptExecutor.class};
+            return (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(), types, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            switch (method.getName()) {
+                case "findElement":
+                    lookups.add((By) args[0]);
+                    return finder.apply((By) args[0]);
+                case "findElements":
+                    lookups.add((By) args[0]);
+                    return List.of();
+                case "executeScript":
+                    scripts++;
+                    return scriptResult;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "StubDriver";
+                default:
+                    return null;
+            }
+        }
+    }
+
+    // Counts clicks; the first staleClicks clicks fail as if the page had re-rendered
+    private static final class StubElement implements InvocationHandler {
+        private int staleClicks;
+        private int clicks;
+
+        private StubElement(int staleClicks) {
+            this.staleClicks = staleClicks;
+        }
+
+        private WebElement element() {
+            return (WebElement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {WebElement.class}, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            switch (method.getName()) {
+                case "click":
+                    if (staleClicks > 0) {
+                        staleClicks--;
+                        throw new StaleElementReferenceException("stale");
+                    }
+                    clicks++;
+                    return null;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "StubElement";
+                default:
+                    return null;
+            }
+        }
+    }
+
+    // ========== BINDING ==========
+
+    @Test
+    public void everyFindByFieldGetsThePageFactoryLocator() throws IllegalAccessException {
+        StubDriver stub = new StubDriver(by -> new StubElement(0).element(), null);
+        WebDriver driver = stub.driver();
+
+        for (Object page : Arrays.asList(new LoginPage(driver), new ProductsPage(driver),
+                new CartPage(driver), new CheckoutPage(driver))) {
+            for (Field field : page.getClass().getDeclaredFields()) {
+                if (!field.isAnnotationPresent(FindBy.class)) {
+                    continue;
+                }
+                String name = page.getClass().getSimpleName() + "." + field.getName();
+                By expected = new Annotations(field).buildBy();
+                Object value = field.get(page);
+
+                if (List.class.isAssignableFrom(field.getType())) {
+                    Assert.assertTrue(value instanceof LazyWebElementList, name + " is not bound as a list");
+                    Assert.assertEquals(((LazyWebElementList) value).getLocator().toString(), expected.toString(), name);
+                } else {
+                    Assert.assertTrue(value instanceof LazyWebElement, name + " is not bound as an element");
+                    Assert.assertEquals(((LazyWebElement) value).getLocator().toString(), expected.toString(), name);
+                }
+            }
+        }
+        Assert.assertTrue(stub.lookups.isEmpty(), "Looked up at construction: " + stub.lookups);
+    }
+
+    // ========== CACHING ==========
+
+    @Test
+    public void elementIsLookedUpOnceAndReused() {
+        StubElement button = new StubElement(0);
+        StubDriver stub = new StubDriver(by -> button.element(), null);
+        WebElement loginButton = new LoginPage(stub.driver()).loginButton;
+
+        loginButton.click();
+        loginButton.click();
+
+        Assert.assertEquals(button.clicks, 2);
+        Assert.assertEquals(stub.lookups, List.of(By.id("login-button")));
+    }
+
+    @Test
+    public void staleElementIsLookedUpAgainAndRetriedOnce() {
+        StubElement rendered = new StubElement(1);
+        StubElement rerendered = new StubElement(0);
+        Iterator<StubElement> renders = List.of(rendered, rerendered).iterator();
+        StubDriver stub = new StubDriver(by -> renders.next().element(), null);
+        WebElement loginButton = new LoginPage(stub.driver()).loginButton;
+
+        loginButton.click();
+
+        Assert.assertEquals(rendered.clicks, 0);
+        Assert.assertEquals(rerendered.clicks, 1);
+        Assert.assertEquals(stub.lookups.size(), 2);
+    }
+
+    @Test
+    public void listFieldIsLookedUpOnEveryAccess() {
+        StubDriver stub = new StubDriver(by -> new StubElement(0).element(), null);
+        List<WebElement> cartItems = new CartPage(stub.driver()).cartItems;
+
+        cartItems.size();
+        cartItems.isEmpty();
+
+        Assert.assertEquals(stub.lookups.size(), 2);
+    }
+
+    // ========== GROUP PREFETCH ==========
+
+    @Test
+    public void firstUseResolvesThePageInOneScript() {
+        StubElement username = new StubElement(0);
+        StubElement password = new StubElement(0);
+        StubElement button = new StubElement(0);
+        StubDriver stub = new StubDriver(by -> new StubElement(0).element(),
+                Arrays.asList(username.element(), password.element(), button.element()));
+        LoginPage page = new LoginPage(stub.driver());
+        Assert.assertEquals(stub.scripts, 0);
+
+        page.usernameField.click();
+        page.loginButton.click();
+
+        Assert.assertEquals(stub.scripts, 1);
+        Assert.assertTrue(stub.lookups.isEmpty(), "Looked up individually: " + stub.lookups);
+        Assert.assertEquals(username.clicks, 1);
+        Assert.assertEquals(button.clicks, 1);
+    }
+
+    @Test
+    public void fieldTheScriptMissedDoesNotRunItAgain() {
+        StubElement password = new StubElement(0);
+        StubDriver stub = new StubDriver(by -> password.element(),
+                Arrays.asList(new StubElement(0).element(), null, new StubElement(0).element()));
+        LoginPage page = new LoginPage(stub.driver());
+
+        page.usernameField.click();
+        page.passwordField.click();
+
+        Assert.assertEquals(stub.scripts, 1);
+        Assert.assertEquals(stub.lookups, List.of(By.id("password")));
+        Assert.assertEquals(password.clicks, 1);
+    }
+}
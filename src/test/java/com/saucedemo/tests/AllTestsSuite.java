@@ -17,10 +17,6 @@ import java.util.List;
 
 public class AllTestsSuite extends BaseTest {
 
-    private LoginPage loginPage;
-    private ProductsPage productsPage;
-    private CartPage cartPage;
-    private CheckoutPage checkoutPage;
     private String currentTestName;
     private ExtentTest extentTest;
 
@@ -62,12 +58,6 @@ public class AllTestsSuite extends BaseTest {
         System.out.println("🌐 BROWSER: " + browser.toUpperCase());
         System.out.println("=".repeat(50));
 
-        // Initialize page objects
-        loginPage = new LoginPage(driver);
-        productsPage = new ProductsPage(driver);
-        cartPage = new CartPage(driver);
-        checkoutPage = new CheckoutPage(driver);
-
         // Get test name
         currentTestName = method.getName();
 
@@ -136,12 +126,12 @@ public class AllTestsSuite extends BaseTest {
 
         importantStep("Entering username: standard_user");
         importantStep("Entering password: secret_sauce");
-        loginPage.login("standard_user", "secret_sauce");
+        loginPage().login("standard_user", "secret_sauce");
 
         visualStep("Clicking login button");
-        waitForCondition(d -> productsPage.getPageTitle().equals("Products"), 10, "Products page");
+        waitForCondition(d -> productsPage().getPageTitle().equals("Products"), 10, "Products page");
 
-        Assert.assertEquals(productsPage.getPageTitle(), "Products");
+        Assert.assertEquals(productsPage().getPageTitle(), "Products");
         visualStep("Successfully logged in and redirected to Products page");
         ExtentReportManager.addScreenshot(currentTestName, browserName, driver, "LoginSuccess");
     }
@@ -153,10 +143,10 @@ public class AllTestsSuite extends BaseTest {
 
         importantStep("Entering username: locked_out_user");
         importantStep("Entering password: secret_sauce");
-        loginPage.login("locked_out_user", "secret_sauce");
-        waitForCondition(d -> loginPage.getErrorMessage().length() > 0, 10, "Error message");
+        loginPage().login("locked_out_user", "secret_sauce");
+        waitForCondition(d -> loginPage().getErrorMessage().length() > 0, 10, "Error message");
 
-        Assert.assertTrue(loginPage.getErrorMessage().contains("locked out"));
+        Assert.assertTrue(loginPage().getErrorMessage().contains("locked out"));
         visualStep("Verified locked out error message appears");
         ExtentReportManager.addScreenshot(currentTestName, browserName, driver, "LockedOut");
     }
@@ -170,10 +160,10 @@ public class AllTestsSuite extends BaseTest {
 
         // Login first
         importantStep("Logging in as standard_user");
-        loginPage.login("standard_user", "secret_sauce");
+        loginPage().login("standard_user", "secret_sauce");
 
         importantStep("Counting displayed products");
-        int itemCount = productsPage.getProductCount();
+        int itemCount = productsPage().getProductCount();
         Assert.assertEquals(itemCount, 6, "Expected 6 items but found " + itemCount);
 
         visualStep("Verified 6 items displayed correctly");
@@ -187,13 +177,13 @@ public class AllTestsSuite extends BaseTest {
 
         // Login first
         importantStep("Logging in as standard_user");
-        loginPage.login("standard_user", "secret_sauce");
+        loginPage().login("standard_user", "secret_sauce");
 
         importantStep("Clicking 'Add to Cart' for first item");
-        productsPage.addItemToCart(0);
-        waitForCondition(d -> "1".equals(productsPage.getCartBadgeCount()), 10, "Cart badge update");
+        productsPage().addItemToCart(0);
+        waitForCondition(d -> "1".equals(productsPage().getCartBadgeCount()), 10, "Cart badge update");
 
-        Assert.assertEquals(productsPage.getCartBadgeCount(), "1");
+        Assert.assertEquals(productsPage().getCartBadgeCount(), "1");
         visualStep("Item successfully added to cart (cart badge shows 1)");
         ExtentReportManager.addScreenshot(currentTestName, browserName, driver, "ItemAdded");
     }
@@ -207,10 +197,10 @@ public class AllTestsSuite extends BaseTest {
 
         // Login and add item
         importantStep("Logging in as standard_user");
-        loginPage.login("standard_user", "secret_sauce");
+        loginPage().login("standard_user", "secret_sauce");
 
         importantStep("Adding item to cart");
-        productsPage.addItemToCart(0);
+        productsPage().addItemToCart(0);
 
         // Go to cart
         importantStep("Navigating to cart page");
@@ -218,23 +208,23 @@ public class AllTestsSuite extends BaseTest {
 
         // Click checkout
         importantStep("Clicking checkout button");
-        cartPage.clickCheckout();
+        cartPage().clickCheckout();
         waitForCondition(d -> driver.getCurrentUrl().contains("checkout-step-one"), 10, "Checkout step 1");
 
         // Fill information
         importantStep("Filling checkout information: John Doe, 12345");
-        checkoutPage.fillInformation("John", "Doe", "12345");
+        checkoutPage().fillInformation("John", "Doe", "12345");
 
         // Continue
         importantStep("Clicking continue");
-        checkoutPage.clickContinue();
+        checkoutPage().clickContinue();
 
         // Finish checkout
         importantStep("Clicking finish");
-        checkoutPage.finishCheckout();
+        checkoutPage().finishCheckout();
         waitForCondition(d -> driver.getCurrentUrl().contains("checkout-complete"), 10, "Checkout complete");
 
-        String successMessage = checkoutPage.getSuccessMessage();
+        String successMessage = checkoutPage().getSuccessMessage();
         Assert.assertEquals(successMessage, "Thank you for your order!");
         importantStep("Order completed successfully!");
         ExtentReportManager.addScreenshot(currentTestName, browserName, driver, "CheckoutComplete");
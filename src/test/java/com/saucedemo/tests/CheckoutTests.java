@@ -15,12 +15,12 @@ public class CheckoutTests extends BaseTest {
     public void loginAndAddProduct() {
         stepDelay("Setting up checkout test - logging in and adding product");
 
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = loginPage();
         actionDelay("Logging in with standard user");
         loginPage.login("standard_user", "secret_sauce");
 
         stepDelay("Login successful, adding item to cart");
-        ProductsPage productsPage = new ProductsPage(driver);
+        ProductsPage productsPage = productsPage();
         productsPage.addItemToCart(0);
 
         stepDelay("Item added, navigating to cart");
@@ -37,7 +37,7 @@ public class CheckoutTests extends BaseTest {
     public void testSuccessfulCheckout() {
         stepDelay("Starting successful checkout test");
 
-        CartPage cartPage = new CartPage(driver);
+        CartPage cartPage = cartPage();
         actionDelay("Clicking checkout button");
         cartPage.clickCheckout();
 
@@ -45,7 +45,7 @@ public class CheckoutTests extends BaseTest {
         waitForCondition(d -> d.getCurrentUrl().contains("checkout-step-one"),
                 5, "Checkout step one page");
 
-        CheckoutPage checkoutPage = new CheckoutPage(driver);
+        CheckoutPage checkoutPage = checkoutPage();
         actionDelay("Filling checkout information");
         checkoutPage.fillInformation("John", "Doe", "12345");
 
@@ -77,12 +77,12 @@ public class CheckoutTests extends BaseTest {
     public void testCheckoutEmptyFirstName() {
         stepDelay("Starting empty first name checkout test");
 
-        CartPage cartPage = new CartPage(driver);
+        CartPage cartPage = cartPage();
         actionDelay("Starting checkout");
         cartPage.clickCheckout();
 
         stepDelay("On checkout information page");
-        CheckoutPage checkoutPage = new CheckoutPage(driver);
+        CheckoutPage checkoutPage = checkoutPage();
 
         actionDelay("Filling info with empty first name");
         checkoutPage.fillInformation("", "Doe", "12345");
@@ -101,7 +101,7 @@ public class CheckoutTests extends BaseTest {
     public void testCheckoutEmptyLastName() {
         stepDelay("Starting empty last name checkout test");
 
-        CartPage cartPage = new CartPage(driver);
+        CartPage cartPage = cartPage();
         cartPage.clickCheckout();
         stepDelay("On checkout page");
 
@@ -127,7 +127,7 @@ public class CheckoutTests extends BaseTest {
         driver.get("https://www.saucedemo.com/inventory.html");
         stepDelay("Back to inventory");
 
-        ProductsPage productsPage = new ProductsPage(driver);
+        ProductsPage productsPage = productsPage();
 
         actionDelay("Adding second item");
         productsPage.addItemToCart(1);
@@ -145,11 +145,11 @@ public class CheckoutTests extends BaseTest {
         driver.get("https://www.saucedemo.com/cart.html");
 
         // Continue with checkout
-        CartPage cartPage = new CartPage(driver);
+        CartPage cartPage = cartPage();
         cartPage.clickCheckout();
         stepDelay("On checkout page");
 
-        CheckoutPage checkoutPage = new CheckoutPage(driver);
+        CheckoutPage checkoutPage = checkoutPage();
         checkoutPage.fillInformation("Jane", "Smith", "54321");
         stepDelay("Information filled");
 
@@ -169,7 +169,7 @@ public class CheckoutTests extends BaseTest {
     public void testCancelCheckout() {
         stepDelay("Starting cancel checkout test");
 
-        CartPage cartPage = new CartPage(driver);
+        CartPage cartPage = cartPage();
         cartPage.clickCheckout();
         stepDelay("On checkout page");
 
@@ -188,11 +188,11 @@ public class CheckoutTests extends BaseTest {
     public void testCheckoutWithSpecialCharacters() {
         stepDelay("Starting special characters checkout test");
 
-        CartPage cartPage = new CartPage(driver);
+        CartPage cartPage = cartPage();
         cartPage.clickCheckout();
         stepDelay("On checkout page");
 
-        CheckoutPage checkoutPage = new CheckoutPage(driver);
+        CheckoutPage checkoutPage = checkoutPage();
         actionDelay("Filling with special characters");
         checkoutPage.fillInformation("Jöhn", "D'Öe", "123-45");
 
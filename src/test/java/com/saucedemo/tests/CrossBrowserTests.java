@@ -1,8 +1,10 @@
 package com.saucedemo.tests;
 
+import com.saucedemo.base.PageRegistry;
 import com.saucedemo.pages.*;
 import com.saucedemo.utils.DriverManager;
 import com.saucedemo.utils.ExtentReportManager;
+import com.saucedemo.utils.Pacing;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.annotations.*;
@@ -11,10 +13,7 @@ import java.lang.reflect.Method;
 
 public class CrossBrowserTests {
     private WebDriver driver;
-    private LoginPage loginPage;
-    private ProductsPage productsPage;
-    private CartPage cartPage;
-    private CheckoutPage checkoutPage;
+    private PageRegistry pages;
     private String browserName;
     private static long testStartTime;
     private static long testEndTime;
@@ -68,16 +67,11 @@ public class CrossBrowserTests {
 
         // Use the centralized driver manager
         driver = DriverManager.getDriver(browser);
+        pages = new PageRegistry(driver);
 
         // Navigate to SauceDemo
         navigateToSauceDemo();
 
-        // Initialize page objects
-        loginPage = new LoginPage(driver);
-        productsPage = new ProductsPage(driver);
-        cartPage = new CartPage(driver);
-        checkoutPage = new CheckoutPage(driver);
-
         // Create test in Extent Report with browser info
         String testName = method.getName() + " [" + browser.toUpperCase() + "]";
         ExtentReportManager.createTest(testName, browser);
@@ -93,6 +87,24 @@ public class CrossBrowserTests {
         delay(ACTION_DELAY);
     }
 
+    // ========== PAGE OBJECTS (built on first use, see PageRegistry) ==========
+    // Same accessors as BaseTest; this class manages its own driver and registry
+    private LoginPage loginPage() {
+        return pages.get(LoginPage.class, LoginPage::new);
+    }
+
+    private ProductsPage productsPage() {
+        return pages.get(ProductsPage.class, ProductsPage::new);
+    }
+
+    private CartPage cartPage() {
+        return pages.get(CartPage.class, CartPage::new);
+    }
+
+    private CheckoutPage checkoutPage() {
+        return pages.get(CheckoutPage.class, CheckoutPage::new);
+    }
+
     // Helper method to navigate to SauceDemo
     private void navigateToSauceDemo() {
         System.out.println("🌐 Navigating to SauceDemo...");
@@ -107,13 +119,9 @@ public class CrossBrowserTests {
         delay(ACTION_DELAY);
     }
 
-    // Helper method for visual delay
+    // Helper method for visual delay (skipped with -Dexecution.profile=fast)
     private void delay(int milliseconds) {
-        try {
-            Thread.sleep(milliseconds);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        Pacing.pause(milliseconds);
     }
 
     // Helper method for visual step logging
@@ -147,23 +155,23 @@ public class CrossBrowserTests {
 
         driver.get("https://www.saucedemo.com/");
         logStep("Entering invalid username: invalid_user");
-        loginPage.enterUsername("invalid_user");
+        loginPage().enterUsername("invalid_user");
 
         logStep("Entering invalid password: invalid_password");
-        loginPage.enterPassword("invalid_password");
+        loginPage().enterPassword("invalid_password");
 
         logImportantStep("Clicking login button");
-        loginPage.clickLogin();
+        loginPage().clickLogin();
 
         // Wait for error message
         WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
         wait.until(d -> {
-            String errorMsg = loginPage.getErrorMessage();
+            String errorMsg = loginPage().getErrorMessage();
             return errorMsg != null && !errorMsg.isEmpty();
         });
 
         // Verify error message
-        String errorMessage = loginPage.getErrorMessage();
+        String errorMessage = loginPage().getErrorMessage();
         if (errorMessage != null && !errorMessage.isEmpty()) {
             ExtentReportManager.logPass(getCurrentTestName(), browserName,
                     "Error message displayed: " + errorMessage);
@@ -182,29 +190,29 @@ public class CrossBrowserTests {
 
         driver.get("https://www.saucedemo.com/");
         logStep("Entering valid username: standard_user");
-        loginPage.enterUsername("standard_user");
+        loginPage().enterUsername("standard_user");
 
         logStep("Entering valid password: secret_sauce");
-        loginPage.enterPassword("secret_sauce");
+        loginPage().enterPassword("secret_sauce");
 
         logImportantStep("Clicking login button");
-        loginPage.clickLogin();
+        loginPage().clickLogin();
 
         // Wait for either error message or successful login
         WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
         wait.until(d -> {
-            String errorMsg = loginPage.getErrorMessage();
+            String errorMsg = loginPage().getErrorMessage();
             boolean hasError = errorMsg != null && !errorMsg.isEmpty();
-            boolean isProductsPage = productsPage.isProductsPageDisplayed();
+            boolean isProductsPage = productsPage().isProductsPageDisplayed();
             return hasError || isProductsPage;
         });
 
         // Verify login result
-        String errorMessage = loginPage.getErrorMessage();
+        String errorMessage = loginPage().getErrorMessage();
         if (errorMessage != null && !errorMessage.isEmpty()) {
             ExtentReportManager.logFail(getCurrentTestName(), browserName,
                     "Login failed with error: " + errorMessage);
-        } else if (productsPage.isProductsPageDisplayed()) {
+        } else if (productsPage().isProductsPageDisplayed()) {
             ExtentReportManager.logPass(getCurrentTestName(), browserName,
                     "Login successful - redirected to products page");
             ExtentReportManager.addScreenshot(getCurrentTestName(), browserName, driver,
@@ -226,15 +234,15 @@ public class CrossBrowserTests {
         // Step 1: Login
         logImportantStep("Step 1: Performing login");
         driver.get("https://www.saucedemo.com/");
-        loginPage.enterUsername("standard_user");
-        loginPage.enterPassword("secret_sauce");
-        loginPage.clickLogin();
+        loginPage().enterUsername("standard_user");
+        loginPage().enterPassword("secret_sauce");
+        loginPage().clickLogin();
 
         // Verify login success
         WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        wait.until(d -> productsPage.isProductsPageDisplayed());
+        wait.until(d -> productsPage().isProductsPageDisplayed());
 
-        if (!productsPage.isProductsPageDisplayed()) {
+        if (!productsPage().isProductsPageDisplayed()) {
             ExtentReportManager.logFail(getCurrentTestName(), browserName,
                     "Login failed - cannot proceed with purchase flow");
             return;
@@ -245,12 +253,12 @@ public class CrossBrowserTests {
 
         // Step 2: Add items to cart
         logImportantStep("Step 2: Adding items to cart");
-        productsPage.addItemToCart(0); // First item
+        productsPage().addItemToCart(0); // First item
         logStep("Added first item to cart");
-        productsPage.addItemToCart(1); // Second item
+        productsPage().addItemToCart(1); // Second item
         logStep("Added second item to cart");
 
-        String cartCount = productsPage.getCartItemCount();
+        String cartCount = productsPage().getCartItemCount();
         if (cartCount != null && !cartCount.isEmpty() && Integer.parseInt(cartCount) >= 2) {
             ExtentReportManager.logPass(getCurrentTestName(), browserName,
                     "Step 2: Added 2 items to cart. Cart count: " + cartCount);
@@ -262,10 +270,10 @@ public class CrossBrowserTests {
 
         // Step 3: Go to cart
         logImportantStep("Step 3: Navigating to cart");
-        productsPage.clickCartIcon();
-        wait.until(d -> cartPage.isCartPageDisplayed());
+        productsPage().clickCartIcon();
+        wait.until(d -> cartPage().isCartPageDisplayed());
 
-        if (cartPage.isCartPageDisplayed()) {
+        if (cartPage().isCartPageDisplayed()) {
             ExtentReportManager.logPass(getCurrentTestName(), browserName,
                     "Step 3: Navigated to cart page");
             ExtentReportManager.addScreenshot(getCurrentTestName(), browserName, driver,
@@ -278,10 +286,10 @@ public class CrossBrowserTests {
 
         // Step 4: Proceed to checkout
         logImportantStep("Step 4: Proceeding to checkout");
-        cartPage.clickCheckoutButton();
-        wait.until(d -> checkoutPage.isCheckoutStepOneDisplayed());
+        cartPage().clickCheckoutButton();
+        wait.until(d -> checkoutPage().isCheckoutStepOneDisplayed());
 
-        if (checkoutPage.isCheckoutStepOneDisplayed()) {
+        if (checkoutPage().isCheckoutStepOneDisplayed()) {
             ExtentReportManager.logPass(getCurrentTestName(), browserName,
                     "Step 4: Navigated to checkout information page");
         } else {
@@ -292,15 +300,15 @@ public class CrossBrowserTests {
 
         // Step 5: Fill checkout information
         logImportantStep("Step 5: Filling checkout information");
-        checkoutPage.enterFirstName("John");
-        checkoutPage.enterLastName("Doe");
-        checkoutPage.enterPostalCode("12345");
+        checkoutPage().enterFirstName("John");
+        checkoutPage().enterLastName("Doe");
+        checkoutPage().enterPostalCode("12345");
         logStep("Filled: First Name=John, Last Name=Doe, Postal Code=12345");
 
-        checkoutPage.clickContinue();
-        wait.until(d -> checkoutPage.isCheckoutStepTwoDisplayed());
+        checkoutPage().clickContinue();
+        wait.until(d -> checkoutPage().isCheckoutStepTwoDisplayed());
 
-        if (checkoutPage.isCheckoutStepTwoDisplayed()) {
+        if (checkoutPage().isCheckoutStepTwoDisplayed()) {
             ExtentReportManager.logPass(getCurrentTestName(), browserName,
                     "Step 5: Filled checkout information successfully");
             ExtentReportManager.addScreenshot(getCurrentTestName(), browserName, driver,
@@ -313,14 +321,14 @@ public class CrossBrowserTests {
 
         // Step 6: Complete purchase
         logImportantStep("Step 6: Completing purchase");
-        checkoutPage.finishCheckout();
+        checkoutPage().finishCheckout();
 
         wait.until(d -> {
-            String successMsg = checkoutPage.getSuccessMessage();
+            String successMsg = checkoutPage().getSuccessMessage();
             return successMsg != null && !successMsg.isEmpty();
         });
 
-        String successMessage = checkoutPage.getSuccessMessage();
+        String successMessage = checkoutPage().getSuccessMessage();
         if (successMessage != null && !successMessage.isEmpty()) {
             ExtentReportManager.logPass(getCurrentTestName(), browserName,
                     "Step 6: Purchase completed successfully: " + successMessage);
@@ -340,21 +348,21 @@ public class CrossBrowserTests {
         // Login first
         driver.get("https://www.saucedemo.com/");
         logStep("Logging in with standard_user credentials");
-        loginPage.enterUsername("standard_user");
-        loginPage.enterPassword("secret_sauce");
-        loginPage.clickLogin();
+        loginPage().enterUsername("standard_user");
+        loginPage().enterPassword("secret_sauce");
+        loginPage().clickLogin();
 
         WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        wait.until(d -> productsPage.isProductsPageDisplayed());
+        wait.until(d -> productsPage().isProductsPageDisplayed());
 
         // Logout
         logImportantStep("Clicking logout button");
-        productsPage.logout();
+        productsPage().logout();
 
         // Verify logout success
-        wait.until(d -> loginPage.isLoginPageDisplayed());
+        wait.until(d -> loginPage().isLoginPageDisplayed());
 
-        if (loginPage.isLoginPageDisplayed()) {
+        if (loginPage().isLoginPageDisplayed()) {
             ExtentReportManager.logPass(getCurrentTestName(), browserName,
                     "Logout successful - returned to login page");
             ExtentReportManager.addScreenshot(getCurrentTestName(), browserName, driver,
@@ -373,40 +381,40 @@ public class CrossBrowserTests {
         // Login
         driver.get("https://www.saucedemo.com/");
         logStep("Logging in with standard_user");
-        loginPage.enterUsername("standard_user");
-        loginPage.enterPassword("secret_sauce");
-        loginPage.clickLogin();
+        loginPage().enterUsername("standard_user");
+        loginPage().enterPassword("secret_sauce");
+        loginPage().clickLogin();
 
         WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        wait.until(d -> productsPage.isProductsPageDisplayed());
+        wait.until(d -> productsPage().isProductsPageDisplayed());
 
         // Add items
         logImportantStep("Adding items to cart");
-        productsPage.addItemToCart(0);
+        productsPage().addItemToCart(0);
         logStep("Added first item to cart");
-        productsPage.addItemToCart(1);
+        productsPage().addItemToCart(1);
         logStep("Added second item to cart");
 
-        String initialCartCount = productsPage.getCartItemCount();
+        String initialCartCount = productsPage().getCartItemCount();
         ExtentReportManager.logInfo(getCurrentTestName(), browserName,
                 "Initial cart count: " + initialCartCount);
 
         // Go to cart
         logImportantStep("Navigating to cart page");
-        productsPage.clickCartIcon();
-        wait.until(d -> cartPage.isCartPageDisplayed());
+        productsPage().clickCartIcon();
+        wait.until(d -> cartPage().isCartPageDisplayed());
 
         // Remove first item
         logImportantStep("Removing first item from cart");
-        cartPage.removeItem(0);
+        cartPage().removeItem(0);
         delay(STEP_DELAY); // Wait for cart to update
 
         // Go back to products
         logStep("Returning to products page");
-        cartPage.clickContinueShopping();
-        wait.until(d -> productsPage.isProductsPageDisplayed());
+        cartPage().clickContinueShopping();
+        wait.until(d -> productsPage().isProductsPageDisplayed());
 
-        String finalCartCount = productsPage.getCartItemCount();
+        String finalCartCount = productsPage().getCartItemCount();
 
         if (finalCartCount != null && !finalCartCount.isEmpty() && Integer.parseInt(finalCartCount) == 1) {
             ExtentReportManager.logPass(getCurrentTestName(), browserName,
@@ -436,6 +444,8 @@ public class CrossBrowserTests {
         ExtentReportManager.addScreenshot(getCurrentTestName(), browserName, driver,
                 "Test Completion - " + browserName.toUpperCase());
 
+        pages.close();
+
         // Close driver using DriverManager
         DriverManager.quitDriver();
 
@@ -26,7 +26,7 @@ public class DataDrivenTests extends BaseTest {
     @Test(dataProvider = "loginData")
     
     public void testLoginDataDriven(String username, String password, boolean shouldSucceed) {
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = loginPage();
         loginPage.login(username, password);
         if (shouldSucceed) {
             Assert.assertTrue(driver.getCurrentUrl().contains("inventory"));
@@ -16,7 +16,7 @@ public class InventoryTests extends BaseTest {
     @BeforeMethod
     public void loginBeforeTest() {
         stepDelay("Setting up inventory test - logging in");
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = loginPage();
         actionDelay("Logging in with standard user");
         loginPage.login("standard_user", "secret_sauce");
         stepDelay("Login completed, ready for inventory tests");
@@ -27,7 +27,7 @@ public class InventoryTests extends BaseTest {
     public void testInventoryItemsCount() {
         stepDelay("Starting inventory items count test");
 
-        ProductsPage productsPage = new ProductsPage(driver);
+        ProductsPage productsPage = productsPage();
 
         waitForCondition(d -> productsPage.getInventoryItemCount() > 0,
                 5, "Inventory items to load");
@@ -46,7 +46,7 @@ public class InventoryTests extends BaseTest {
     public void testAddItemToCart() {
         stepDelay("Starting add item to cart test");
 
-        ProductsPage productsPage = new ProductsPage(driver);
+        ProductsPage productsPage = productsPage();
 
         actionDelay("Adding first item to cart");
         productsPage.addItemToCart(0);
@@ -74,7 +74,7 @@ public class InventoryTests extends BaseTest {
     public void testLogout() {
         stepDelay("Starting logout functionality test");
 
-        ProductsPage productsPage = new ProductsPage(driver);
+        ProductsPage productsPage = productsPage();
 
         // Verify we're logged in first
         Assert.assertEquals(productsPage.getPageTitle(), "Products");
@@ -107,7 +107,7 @@ public class InventoryTests extends BaseTest {
     public void testAddRemoveFromCart() {
         stepDelay("Starting add/remove from cart test");
 
-        ProductsPage productsPage = new ProductsPage(driver);
+        ProductsPage productsPage = productsPage();
 
         // Add item
         actionDelay("Adding first item to cart");
@@ -136,7 +136,7 @@ public class InventoryTests extends BaseTest {
     public void testProductDetailsDisplay() {
         stepDelay("Starting product details display test");
 
-        ProductsPage productsPage = new ProductsPage(driver);
+        ProductsPage productsPage = productsPage();
         int itemCount = productsPage.getInventoryItemCount();
 
         stepDelay("Checking " + itemCount + " products");
@@ -161,7 +161,7 @@ public class InventoryTests extends BaseTest {
     public void testAddMultipleDifferentItems() {
         stepDelay("Starting multiple items add test");
 
-        ProductsPage productsPage = new ProductsPage(driver);
+        ProductsPage productsPage = productsPage();
 
         // Add items 0, 2, and 4
         int[] itemsToAdd = {0, 2, 4};
@@ -196,7 +196,7 @@ public class InventoryTests extends BaseTest {
     public void testInventoryPageRefresh() {
         stepDelay("Starting inventory page refresh test");
 
-        ProductsPage productsPage = new ProductsPage(driver);
+        ProductsPage productsPage = productsPage();
 
         // Add an item first
         actionDelay("Adding item to cart before refresh");
@@ -220,6 +220,7 @@ public class InventoryTests extends BaseTest {
         // Verify cart badge persists
         waitForCondition(d -> {
             try {
+                // A fresh page object on purpose, rather than the registry one built before the refresh
                 ProductsPage refreshedPage = new ProductsPage(driver);
                 return "1".equals(refreshedPage.getCartBadgeCount());
             } catch (Exception e) {
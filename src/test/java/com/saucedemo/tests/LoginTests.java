@@ -16,12 +16,12 @@ public class LoginTests extends BaseTest {
     public void testSuccessfulLogin() {
         stepDelay("Starting successful login test");
 
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = loginPage();
         actionDelay("Entering valid credentials");
         loginPage.login("standard_user", "secret_sauce");
 
         stepDelay("Waiting for inventory page");
-        ProductsPage productsPage = new ProductsPage(driver);
+        ProductsPage productsPage = productsPage();
 
         waitForCondition(d -> productsPage.getPageTitle().equals("Products"),
                 5, "Products page title to appear");
@@ -40,7 +40,7 @@ public class LoginTests extends BaseTest {
     public void testLockedOutUser() {
         stepDelay("Starting locked out user test");
 
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = loginPage();
         actionDelay("Attempting login with locked out user");
         loginPage.login("locked_out_user", "secret_sauce");
 
@@ -62,7 +62,7 @@ public class LoginTests extends BaseTest {
     public void testInvalidPassword() {
         stepDelay("Starting invalid password test");
 
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = loginPage();
         actionDelay("Entering valid username but wrong password");
         loginPage.login("standard_user", "wrong_password");
 
@@ -84,7 +84,7 @@ public class LoginTests extends BaseTest {
     public void testEmptyUsername() {
         stepDelay("Starting empty username test");
 
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = loginPage();
         actionDelay("Leaving username empty");
         loginPage.login("", "secret_sauce");
 
@@ -106,7 +106,7 @@ public class LoginTests extends BaseTest {
     public void testEmptyPassword() {
         stepDelay("Starting empty password test");
 
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = loginPage();
         actionDelay("Leaving password empty");
         loginPage.login("standard_user", "");
 
@@ -128,7 +128,7 @@ public class LoginTests extends BaseTest {
     public void testPerformanceGlitchUser() {
         stepDelay("Starting performance glitch user test");
 
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = loginPage();
         actionDelay("Logging in as performance glitch user");
         loginPage.login("performance_glitch_user", "secret_sauce");
 
@@ -138,7 +138,7 @@ public class LoginTests extends BaseTest {
         waitForCondition(d -> d.getCurrentUrl().contains("inventory"),
                 10, "Inventory page for performance user");
 
-        ProductsPage productsPage = new ProductsPage(driver);
+        ProductsPage productsPage = productsPage();
         String pageTitle = productsPage.getPageTitle();
 
         Assert.assertEquals(pageTitle, "Products",
@@ -152,7 +152,7 @@ public class LoginTests extends BaseTest {
     public void testProblemUser() {
         stepDelay("Starting problem user test");
 
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = loginPage();
         actionDelay("Logging in as problem user");
         loginPage.login("problem_user", "secret_sauce");
 
@@ -171,7 +171,7 @@ public class LoginTests extends BaseTest {
     public void testLoginFormFieldsEditable() {
         stepDelay("Starting form fields test");
 
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = loginPage();
 
         // Test username field
         actionDelay("Testing username field");
@@ -188,7 +188,7 @@ public class LoginTests extends BaseTest {
     public void testLoginButtonStates() {
         stepDelay("Starting login button states test");
 
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = loginPage();
 
         // Button should be enabled by default
         stepDelay("Checking button enabled state");
@@ -202,7 +202,7 @@ public class LoginTests extends BaseTest {
     public void testMultipleFailedLoginAttempts() {
         stepDelay("Starting multiple failed login attempts test");
 
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = loginPage();
 
         for (int i = 1; i <= 3; i++) {
             stepDelay("Failed attempt " + i + "/3");
@@ -11,10 +11,6 @@ import java.lang.reflect.Method;
 
 public class RegressionTests extends BaseTest {
 
-    private LoginPage loginPage;
-    private ProductsPage productsPage;
-    private CartPage cartPage;
-    private CheckoutPage checkoutPage;
     private String currentTestName;
 
     @BeforeMethod
@@ -23,12 +19,6 @@ public class RegressionTests extends BaseTest {
         // Call parent setup
         super.setUp(browser);
 
-        // Initialize page objects
-        loginPage = new LoginPage(driver);
-        productsPage = new ProductsPage(driver);
-        cartPage = new CartPage(driver);
-        checkoutPage = new CheckoutPage(driver);
-
         // Get test name
         currentTestName = method.getName();
 
@@ -65,14 +55,14 @@ public class RegressionTests extends BaseTest {
     public void testInvalidLogin() {
         ExtentReportManager.logInfo(currentTestName, browserName, "Testing invalid login credentials");
 
-        loginPage.login("invalid_user", "invalid_password");
+        loginPage().login("invalid_user", "invalid_password");
 
         // Wait for error message
-        waitForCondition(d -> !loginPage.getErrorMessage().isEmpty(), 10, "Error message to appear");
+        waitForCondition(d -> !loginPage().getErrorMessage().isEmpty(), 10, "Error message to appear");
 
         // Verify error message
-        if (!loginPage.getErrorMessage().isEmpty()) {
-            String errorMessage = loginPage.getErrorMessage();
+        if (!loginPage().getErrorMessage().isEmpty()) {
+            String errorMessage = loginPage().getErrorMessage();
             Assert.assertTrue(errorMessage.contains("Username and password do not match"),
                     "Expected error message not found. Actual: " + errorMessage);
             ExtentReportManager.logPass(currentTestName, browserName,
@@ -89,23 +79,23 @@ public class RegressionTests extends BaseTest {
     public void testValidLogin() {
         ExtentReportManager.logInfo(currentTestName, browserName, "Testing valid login credentials");
 
-        loginPage.login("standard_user", "secret_sauce");
+        loginPage().login("standard_user", "secret_sauce");
 
         // Wait for either error message or successful login
         waitForCondition(d -> {
-            String errorMsg = loginPage.getErrorMessage();
+            String errorMsg = loginPage().getErrorMessage();
             boolean hasError = errorMsg != null && !errorMsg.isEmpty();
-            boolean isProductsPage = productsPage.isProductsPageDisplayed();
+            boolean isProductsPage = productsPage().isProductsPageDisplayed();
             return hasError || isProductsPage;
         }, 10, "Login to complete");
 
         // Verify login result
-        String errorMessage = loginPage.getErrorMessage();
+        String errorMessage = loginPage().getErrorMessage();
         if (errorMessage != null && !errorMessage.isEmpty()) {
             ExtentReportManager.logFail(currentTestName, browserName,
                     "Login failed with error: " + errorMessage);
             Assert.fail("Login should not fail with valid credentials");
-        } else if (productsPage.isProductsPageDisplayed()) {
+        } else if (productsPage().isProductsPageDisplayed()) {
             ExtentReportManager.logPass(currentTestName, browserName,
                     "Login successful and redirected to products page");
             Assert.assertTrue(driver.getCurrentUrl().contains("inventory"));
@@ -123,38 +113,38 @@ public class RegressionTests extends BaseTest {
         ExtentReportManager.logInfo(currentTestName, browserName, "Testing complete purchase flow");
 
         // Login
-        loginPage.login("standard_user", "secret_sauce");
-        waitForCondition(d -> productsPage.isProductsPageDisplayed(), 10, "Products page to load");
+        loginPage().login("standard_user", "secret_sauce");
+        waitForCondition(d -> productsPage().isProductsPageDisplayed(), 10, "Products page to load");
 
         // Add items to cart
-        productsPage.addItemToCart(0); // First item
-        productsPage.addItemToCart(1); // Second item
+        productsPage().addItemToCart(0); // First item
+        productsPage().addItemToCart(1); // Second item
 
         // Verify items added
-        waitForCondition(d -> "2".equals(productsPage.getCartBadgeCount()), 10, "Cart badge to update");
-        Assert.assertEquals(productsPage.getCartBadgeCount(), "2", "Should have 2 items in cart");
+        waitForCondition(d -> "2".equals(productsPage().getCartBadgeCount()), 10, "Cart badge to update");
+        Assert.assertEquals(productsPage().getCartBadgeCount(), "2", "Should have 2 items in cart");
 
         // Go to cart
-        productsPage.clickCartIcon();
+        productsPage().clickCartIcon();
         waitForCondition(d -> driver.getCurrentUrl().contains("cart.html"), 10, "Cart page to load");
 
         // Checkout
-        cartPage.clickCheckout();
+        cartPage().clickCheckout();
         waitForCondition(d -> driver.getCurrentUrl().contains("checkout-step-one"), 10, "Checkout page to load");
 
         // Fill checkout information
-        checkoutPage.fillInformation("John", "Doe", "12345");
-        checkoutPage.clickContinue();
+        checkoutPage().fillInformation("John", "Doe", "12345");
+        checkoutPage().clickContinue();
 
         waitForCondition(d -> driver.getCurrentUrl().contains("checkout-step-two"), 10, "Checkout overview page");
 
         // Finish checkout
-        checkoutPage.finishCheckout();
+        checkoutPage().finishCheckout();
         waitForCondition(d -> driver.getCurrentUrl().contains("checkout-complete"), 10, "Checkout complete page");
 
         // Verify success message
-        waitForCondition(d -> !checkoutPage.getSuccessMessage().isEmpty(), 10, "Success message to appear");
-        String successMessage = checkoutPage.getSuccessMessage();
+        waitForCondition(d -> !checkoutPage().getSuccessMessage().isEmpty(), 10, "Success message to appear");
+        String successMessage = checkoutPage().getSuccessMessage();
 
         if (!successMessage.isEmpty()) {
             Assert.assertEquals(successMessage, "Thank you for your order!",
@@ -175,19 +165,19 @@ public class RegressionTests extends BaseTest {
         ExtentReportManager.logInfo(currentTestName, browserName, "Testing add multiple items to cart");
 
         // Login
-        loginPage.login("standard_user", "secret_sauce");
+        loginPage().login("standard_user", "secret_sauce");
 
         // Add multiple items
-        productsPage.addItemToCart(0);
-        productsPage.addItemToCart(1);
-        productsPage.addItemToCart(2);
+        productsPage().addItemToCart(0);
+        productsPage().addItemToCart(1);
+        productsPage().addItemToCart(2);
 
         // Verify cart count
-        waitForCondition(d -> "3".equals(productsPage.getCartBadgeCount()), 10, "Cart badge to update to 3");
-        Assert.assertEquals(productsPage.getCartBadgeCount(), "3", "Should have 3 items in cart");
+        waitForCondition(d -> "3".equals(productsPage().getCartBadgeCount()), 10, "Cart badge to update to 3");
+        Assert.assertEquals(productsPage().getCartBadgeCount(), "3", "Should have 3 items in cart");
 
         ExtentReportManager.logPass(currentTestName, browserName,
-                "Successfully added 3 items to cart. Cart count: " + productsPage.getCartBadgeCount());
+                "Successfully added 3 items to cart. Cart count: " + productsPage().getCartBadgeCount());
         ExtentReportManager.addScreenshot(currentTestName, browserName, driver, "MultipleItemsAdded");
     }
 
@@ -196,11 +186,11 @@ public class RegressionTests extends BaseTest {
         ExtentReportManager.logInfo(currentTestName, browserName, "Testing logout functionality");
 
         // Login first
-        loginPage.login("standard_user", "secret_sauce");
-        waitForCondition(d -> productsPage.isProductsPageDisplayed(), 10, "Products page");
+        loginPage().login("standard_user", "secret_sauce");
+        waitForCondition(d -> productsPage().isProductsPageDisplayed(), 10, "Products page");
 
         // Logout
-        productsPage.logout();
+        productsPage().logout();
         waitForCondition(d -> driver.getCurrentUrl().contains("saucedemo.com") &&
                 !driver.getCurrentUrl().contains("inventory"), 10, "Login page to appear");
 
@@ -217,20 +207,20 @@ public class RegressionTests extends BaseTest {
         ExtentReportManager.logInfo(currentTestName, browserName, "Testing login with empty credentials");
 
         // Test empty username
-        loginPage.login("", "secret_sauce");
-        waitForCondition(d -> !loginPage.getErrorMessage().isEmpty(), 10, "Error message for empty username");
+        loginPage().login("", "secret_sauce");
+        waitForCondition(d -> !loginPage().getErrorMessage().isEmpty(), 10, "Error message for empty username");
 
-        String usernameError = loginPage.getErrorMessage();
+        String usernameError = loginPage().getErrorMessage();
         Assert.assertTrue(usernameError.contains("Username is required"));
         ExtentReportManager.logInfo(currentTestName, browserName,
                 "Empty username error: " + usernameError);
 
         // Refresh and test empty password
         driver.navigate().refresh();
-        loginPage.login("standard_user", "");
-        waitForCondition(d -> !loginPage.getErrorMessage().isEmpty(), 10, "Error message for empty password");
+        loginPage().login("standard_user", "");
+        waitForCondition(d -> !loginPage().getErrorMessage().isEmpty(), 10, "Error message for empty password");
 
-        String passwordError = loginPage.getErrorMessage();
+        String passwordError = loginPage().getErrorMessage();
         Assert.assertTrue(passwordError.contains("Password is required"));
         ExtentReportManager.logInfo(currentTestName, browserName,
                 "Empty password error: " + passwordError);
@@ -17,12 +17,12 @@ public class SmokeTests extends BaseTest {
     public void testLoginLogout() {
         stepDelay("Starting login/logout test");
 
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = loginPage();
         actionDelay("Entering username and password");
         loginPage.login("standard_user", "secret_sauce");
 
         stepDelay("After login - waiting for inventory page");
-        ProductsPage productsPage = new ProductsPage(driver);
+        ProductsPage productsPage = productsPage();
 
         waitForCondition(d -> productsPage.getPageTitle().equals("Products"),
                 5, "Products page title to appear");
@@ -50,12 +50,12 @@ public class SmokeTests extends BaseTest {
     public void testHomepageLoading() {
         stepDelay("Starting homepage loading test");
 
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = loginPage();
         actionDelay("Logging in with standard user");
         loginPage.login("standard_user", "secret_sauce");
 
         stepDelay("After login - checking inventory items");
-        ProductsPage productsPage = new ProductsPage(driver);
+        ProductsPage productsPage = productsPage();
 
         waitForCondition(d -> productsPage.getInventoryItemCount() > 0,
                 5, "Inventory items to load");
@@ -73,12 +73,12 @@ public class SmokeTests extends BaseTest {
     public void testAddToCart() {
         stepDelay("Starting add to cart test");
 
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = loginPage();
         actionDelay("Logging in");
         loginPage.login("standard_user", "secret_sauce");
 
         stepDelay("After login - adding first item to cart");
-        ProductsPage productsPage = new ProductsPage(driver);
+        ProductsPage productsPage = productsPage();
         actionDelay("Clicking add to cart button");
         productsPage.addItemToCart(0);
 
@@ -104,19 +104,19 @@ public class SmokeTests extends BaseTest {
     public void testCheckoutPageNavigation() {
         stepDelay("Starting checkout navigation test");
 
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = loginPage();
         actionDelay("Logging in");
         loginPage.login("standard_user", "secret_sauce");
 
         stepDelay("After login - adding item to cart");
-        ProductsPage productsPage = new ProductsPage(driver);
+        ProductsPage productsPage = productsPage();
         productsPage.addItemToCart(0);
 
         actionDelay("Navigating to cart page");
         driver.get("https://www.saucedemo.com/cart.html");
         stepDelay("On cart page");
 
-        CartPage cartPage = new CartPage(driver);
+        CartPage cartPage = cartPage();
         actionDelay("Clicking checkout button");
         cartPage.clickCheckout();
 
@@ -136,12 +136,12 @@ public class SmokeTests extends BaseTest {
     public void testProductDetailsDisplay() {
         stepDelay("Starting product details test");
 
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = loginPage();
         actionDelay("Logging in");
         loginPage.login("standard_user", "secret_sauce");
 
         stepDelay("Checking inventory items");
-        ProductsPage productsPage = new ProductsPage(driver);
+        ProductsPage productsPage = productsPage();
         int itemCount = productsPage.getInventoryItemCount();
 
         Assert.assertEquals(itemCount, 6, "Should have 6 products");
@@ -156,12 +156,12 @@ public class SmokeTests extends BaseTest {
     public void testCartPageFunctionality() {
         stepDelay("Starting cart page test");
 
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = loginPage();
         actionDelay("Logging in");
         loginPage.login("standard_user", "secret_sauce");
 
         stepDelay("Adding items to cart");
-        ProductsPage productsPage = new ProductsPage(driver);
+        ProductsPage productsPage = productsPage();
         productsPage.addItemToCart(0);
         productsPage.addItemToCart(1);
 
@@ -186,7 +186,7 @@ public class SmokeTests extends BaseTest {
     public void testInvalidLoginError() {
         stepDelay("Starting invalid login test");
 
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = loginPage();
         actionDelay("Attempting login with invalid credentials");
         loginPage.login("invalid_user", "invalid_pass");
 
@@ -207,7 +207,7 @@ public class SmokeTests extends BaseTest {
     public void testBackToProductsNavigation() {
         stepDelay("Starting navigation test");
 
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = loginPage();
         actionDelay("Logging in");
         loginPage.login("standard_user", "secret_sauce");
 
@@ -218,7 +218,7 @@ public class SmokeTests extends BaseTest {
         driver.get("https://www.saucedemo.com/inventory.html");
         stepDelay("Back to products");
 
-        ProductsPage productsPage = new ProductsPage(driver);
+        ProductsPage productsPage = productsPage();
         Assert.assertEquals(productsPage.getPageTitle(), "Products");
 
         System.out.println(" Navigation test completed");
@@ -248,7 +248,7 @@ public class SmokeTests extends BaseTest {
     public void testButtonFunctionality() {
         stepDelay("Starting button functionality test");
 
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = loginPage();
         Assert.assertTrue(driver.getCurrentUrl().contains("saucedemo.com"));
 
         System.out.println(" Button functionality test completed");
@@ -0,0 +1,70 @@
+package com.saucedemo.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Admission limits the governor derives from a host sample (ConcurrencyGovernor.Sample.limit).
+ * Expectations are capped by governor.max.sessions, which depends on the host's cores.
+ */
+public class ConcurrencyGovernorTest {
+
+    private static final long SESSION_MB = 400;
+
+    private static ConcurrencyGovernor.Sample idleHostWithRoomFor(long sessions) {
+        return new ConcurrencyGovernor.Sample(ConcurrencyGovernor.RESERVE_MB + sessions * SESSION_MB, 0, SESSION_MB);
+    }
+
+    private static int capped(long sessions) {
+        return (int) Math.min(ConcurrencyGovernor.MAX_SESSIONS, sessions);
+    }
+
+    @Test
+    public void memoryHeadroomAddsToRunningSessions() {
+        ConcurrencyGovernor.Sample sample = idleHostWithRoomFor(2);
+
+        Assert.assertEquals(sample.limit(0, 0), capped(2));
+        Assert.assertEquals(sample.limit(1, 0), capped(3));
+    }
+
+    @Test
+    public void sessionsStillStartingUseUpHeadroom() {
+        ConcurrencyGovernor.Sample sample = idleHostWithRoomFor(2);
+
+        Assert.assertEquals(sample.limit(0, 1), capped(1));
+        Assert.assertEquals(sample.limit(0, 2), 0);
+        // More starting than the headroom never pushes the limit below what is running
+        Assert.assertEquals(sample.limit(1, 5), capped(1));
+    }
+
+    @Test
+    public void memoryBelowReserveAdmitsNoMore() {
+        ConcurrencyGovernor.Sample sample = new ConcurrencyGovernor.Sample(ConcurrencyGovernor.RESERVE_MB / 2, 0, SESSION_MB);
+
+        Assert.assertEquals(sample.limit(0, 0), 0);
+        Assert.assertEquals(sample.limit(1, 0), capped(1));
+    }
+
+    @Test
+    public void highLoadHoldsAtRunningSessions() {
+        ConcurrencyGovernor.Sample sample = new ConcurrencyGovernor.Sample(Long.MAX_VALUE / 2,
+                ConcurrencyGovernor.MAX_LOAD_PER_CORE + 0.5, SESSION_MB);
+
+        Assert.assertEquals(sample.limit(1, 0), capped(1));
+    }
+
+    @Test
+    public void limitNeverExceedsMaxSessions() {
+        ConcurrencyGovernor.Sample sample = idleHostWithRoomFor(10_000);
+
+        Assert.assertEquals(sample.limit(0, 0), ConcurrencyGovernor.MAX_SESSIONS);
+        Assert.assertEquals(sample.limit(ConcurrencyGovernor.MAX_SESSIONS, 0), ConcurrencyGovernor.MAX_SESSIONS);
+    }
+
+    @Test
+    public void unmeasuredSessionSizeDoesNotDivideByZero() {
+        ConcurrencyGovernor.Sample sample = new ConcurrencyGovernor.Sample(ConcurrencyGovernor.RESERVE_MB + 1, 0, 0);
+
+        Assert.assertEquals(sample.limit(0, 0), capped(1));
+    }
+}
@@ -0,0 +1,178 @@
+package com.saucedemo.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reservation accounting of DriverPool.BrowserPool (live, spawning, waiting, scheduled),
+ * without starting any browser.
+ */
+public class DriverPoolTest {
+
+    private static int poolCount;
+
+    // A pool of the given size, under a browser name no other test uses
+    private static DriverPool.BrowserPool pool(int size) {
+        String browser = "unit" + (++poolCount);
+        System.setProperty("driver.pool.size." + browser, String.valueOf(size));
+        return new DriverPool.BrowserPool(browser);
+    }
+
+    private static DriverPool.PooledSession session() {
+        WebDriver driver = (WebDriver) Proxy.newProxyInstance(DriverPoolTest.class.getClassLoader(),
+                new Class<?>[] {WebDriver.class},
+                (proxy, method, args) -> "getWindowHandle".equals(method.getName()) ? "main" : null);
+        return new DriverPool.PooledSession("unit", driver);
+    }
+
+    private static long soon() {
+        return System.currentTimeMillis() + 50;
+    }
+
+    @Test
+    public void reservesUpToPoolSizeThenTimesOut() {
+        DriverPool.BrowserPool pool = pool(2);
+
+        Assert.assertNull(pool.takeOrReserve(soon()));
+        Assert.assertNull(pool.takeOrReserve(soon()));
+        Assert.assertThrows(RuntimeException.class, () -> pool.takeOrReserve(soon()));
+    }
+
+    @Test
+    public void releasedCapacityCanBeReservedAgain() {
+        DriverPool.BrowserPool pool = pool(1);
+        Assert.assertNull(pool.takeOrReserve(soon()));
+
+        pool.releaseCapacity();
+
+        Assert.assertNull(pool.takeOrReserve(soon()));
+    }
+
+    @Test
+    public void idleSessionIsTakenBeforeReserving() {
+        DriverPool.BrowserPool pool = pool(1);
+        Assert.assertNull(pool.takeOrReserve(soon()));
+        DriverPool.PooledSession session = session();
+
+        pool.giveBack(session);
+
+        Assert.assertSame(pool.takeOrReserve(soon()), session);
+    }
+
+    @Test
+    public void nothingIsPrespawnedUntilScheduled() {
+        DriverPool.BrowserPool pool = pool(3);
+
+        Assert.assertEquals(pool.reserveForPrespawn(2), 0);
+
+        pool.setScheduled(5);
+        Assert.assertEquals(pool.reserveForPrespawn(2), 2);
+        // Starts already in flight count towards the lookahead
+        Assert.assertEquals(pool.reserveForPrespawn(2), 0);
+    }
+
+    @Test
+    public void prespawnIsCappedByScheduleAndPoolSize() {
+        DriverPool.BrowserPool small = pool(1);
+        small.setScheduled(5);
+        Assert.assertEquals(small.reserveForPrespawn(3), 1);
+
+        DriverPool.BrowserPool fewTests = pool(3);
+        fewTests.setScheduled(1);
+        Assert.assertEquals(fewTests.reserveForPrespawn(3), 1);
+    }
+
+    @Test
+    public void consumedScheduleStopsAtZero() {
+        DriverPool.BrowserPool pool = pool(3);
+        pool.setScheduled(1);
+        pool.consumeScheduled();
+        pool.consumeScheduled();
+
+        Assert.assertEquals(pool.reserveForPrespawn(2), 0);
+    }
+
+    @Test
+    public void topUpRefillsTheLookaheadAsSessionsAreLeased() {
+        DriverPool.BrowserPool pool = pool(2);
+        pool.setScheduled(3);
+        Assert.assertEquals(pool.reserveForPrespawn(2), 2);
+        pool.finishPrespawn(session());
+        pool.finishPrespawn(session());
+        // Both ready sessions already cover the lookahead
+        Assert.assertEquals(pool.reserveForPrespawn(2), 0);
+
+        Assert.assertNotNull(pool.takeOrReserve(soon()));
+        pool.consumeScheduled();
+        // One ready session is short of the lookahead, but the leased one still holds capacity
+        Assert.assertEquals(pool.reserveForPrespawn(2), 0);
+
+        pool.releaseCapacity();
+        Assert.assertEquals(pool.reserveForPrespawn(2), 1);
+    }
+
+    @Test
+    public void prespawnStopsWhenNoTestsRemain() {
+        DriverPool.BrowserPool pool = pool(2);
+        pool.setScheduled(1);
+        Assert.assertEquals(pool.reserveForPrespawn(2), 1);
+        pool.finishPrespawn(session());
+
+        Assert.assertNotNull(pool.takeOrReserve(soon()));
+        pool.consumeScheduled();
+
+        Assert.assertEquals(pool.reserveForPrespawn(2), 0);
+    }
+
+    @Test
+    public void leaseWaitsForAnUnclaimedPrespawn() throws Exception {
+        DriverPool.BrowserPool pool = pool(3);
+        pool.setScheduled(5);
+        Assert.assertEquals(pool.reserveForPrespawn(1), 1);
+
+        // One start is in flight and nobody waits on it yet, so the first lease waits for it...
+        CompletableFuture<DriverPool.PooledSession> first = CompletableFuture.supplyAsync(
+                () -> pool.takeOrReserve(System.currentTimeMillis() + 5000));
+        Thread.sleep(200);
+        Assert.assertFalse(first.isDone());
+
+        // ...and a second lease, with the start already claimed, reserves its own capacity
+        Assert.assertNull(pool.takeOrReserve(soon()));
+
+        DriverPool.PooledSession session = session();
+        pool.finishPrespawn(session);
+        Assert.assertSame(first.get(5, TimeUnit.SECONDS), session);
+    }
+
+    @Test
+    public void abortedPrespawnFreesTheWaitingLease() throws Exception {
+        DriverPool.BrowserPool pool = pool(1);
+        pool.setScheduled(5);
+        Assert.assertEquals(pool.reserveForPrespawn(1), 1);
+
+        CompletableFuture<DriverPool.PooledSession> lease = CompletableFuture.supplyAsync(
+                () -> pool.takeOrReserve(System.currentTimeMillis() + 5000));
+        Thread.sleep(200);
+        Assert.assertFalse(lease.isDone());
+
+        // A failed start gives its capacity back too (see DriverPool.startSession)
+        pool.abortPrespawn();
+        pool.releaseCapacity();
+        Assert.assertNull(lease.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void drainIdleEmptiesThePool() {
+        DriverPool.BrowserPool pool = pool(2);
+        pool.giveBack(session());
+        pool.giveBack(session());
+
+        Assert.assertEquals(pool.drainIdle().size(), 2);
+        Assert.assertTrue(pool.drainIdle().isEmpty());
+    }
+}
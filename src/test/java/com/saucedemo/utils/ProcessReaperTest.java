@@ -0,0 +1,91 @@
+package com.saucedemo.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Parsing and pruning of the tracked-process registry (ProcessReaper.Entry and the line
+ * helpers), without touching the registry file or any process.
+ */
+public class ProcessReaperTest {
+
+    private static final List<String> REGISTRY = Arrays.asList(
+            "100 1001 2026-10-17T04:00:00Z",
+            "100 1002 -",
+            "200 2001 2026-10-17T04:01:00Z");
+
+    @Test
+    public void parsesWellFormedLines() {
+        ProcessReaper.Entry entry = ProcessReaper.Entry.parse("100 1001 2026-10-17T04:00:00Z");
+
+        Assert.assertNotNull(entry);
+        Assert.assertEquals(entry.ownerPid, 100);
+        Assert.assertEquals(entry.pid, 1001);
+        Assert.assertEquals(entry.started, "2026-10-17T04:00:00Z");
+        Assert.assertFalse(entry.hasUnknownStart());
+        Assert.assertEquals(entry.format(), "100 1001 2026-10-17T04:00:00Z");
+    }
+
+    @Test
+    public void recognisesUnknownStartTime() {
+        ProcessReaper.Entry entry = ProcessReaper.Entry.parse("100 1002 -");
+
+        Assert.assertNotNull(entry);
+        Assert.assertTrue(entry.hasUnknownStart());
+    }
+
+    @Test
+    public void rejectsTruncatedOrCorruptLines() {
+        for (String line : new String[]{"", "100", "100 1001", "100 1001 ", "abc 1001 -", "100 x -", "100 1001 - extra"}) {
+            Assert.assertNull(ProcessReaper.Entry.parse(line), "Parsed: '" + line + "'");
+        }
+    }
+
+    @Test
+    public void pruneKeepsLiveOwnersAndCollectsOrphans() {
+        List<ProcessReaper.Entry> orphaned = new ArrayList<>();
+
+        List<String> kept = ProcessReaper.pruneDeadOwners(REGISTRY, owner -> owner == 200, orphaned);
+
+        Assert.assertEquals(kept, List.of("200 2001 2026-10-17T04:01:00Z"));
+        Assert.assertEquals(orphaned.size(), 2);
+        Assert.assertEquals(orphaned.get(0).pid, 1001);
+        Assert.assertEquals(orphaned.get(1).pid, 1002);
+    }
+
+    @Test
+    public void pruneDropsCorruptLines() {
+        List<ProcessReaper.Entry> orphaned = new ArrayList<>();
+
+        List<String> kept = ProcessReaper.pruneDeadOwners(
+                Arrays.asList("200 2001 -", "200 20", "garbage"), owner -> true, orphaned);
+
+        Assert.assertEquals(kept, List.of("200 2001 -"));
+        Assert.assertTrue(orphaned.isEmpty());
+    }
+
+    @Test
+    public void removesOneEntryOfTheOwner() {
+        List<String> kept = ProcessReaper.removeEntries(REGISTRY, 100, 1001L);
+
+        Assert.assertEquals(kept, List.of("100 1002 -", "200 2001 2026-10-17T04:01:00Z"));
+    }
+
+    @Test
+    public void removesAllEntriesOfTheOwner() {
+        List<String> kept = ProcessReaper.removeEntries(REGISTRY, 100, null);
+
+        Assert.assertEquals(kept, List.of("200 2001 2026-10-17T04:01:00Z"));
+    }
+
+    @Test
+    public void neverRemovesAnotherOwnersEntry() {
+        List<String> kept = ProcessReaper.removeEntries(REGISTRY, 200, 1001L);
+
+        Assert.assertEquals(kept, REGISTRY);
+    }
+}